@@ -0,0 +1,138 @@
+package alvearmj_projectprelims;
+
+import java.awt.image.BufferedImage;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Minimal streaming PNG encoder (8-bit RGB or RGBA, non-interlaced).
+ *
+ * Rows are deflated and flushed as IDAT chunks as soon as they are written,
+ * so an image of any height can be produced band by band with only one band in memory.
+ */
+final class PngBandWriter implements AutoCloseable {
+
+  private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+  private static final int CHUNK = 64 * 1024;
+
+  private final DataOutputStream out;
+  private final int width, height;
+  private final boolean alpha;
+  private final IdatStream chunks = new IdatStream();
+  private final DeflaterOutputStream idat;
+  private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+  private final int[] argb;
+  private final byte[] row;
+  private int rowsWritten;
+
+  /** @param alpha whether to keep each pixel's alpha (RGBA) or drop it (RGB, for opaque images) */
+  PngBandWriter(OutputStream os, int width, int height, boolean alpha) throws IOException {
+    this.out = new DataOutputStream(os);
+    this.width = width;
+    this.height = height;
+    this.alpha = alpha;
+    this.argb = new int[width];
+    this.row = new byte[1 + (alpha ? 4 : 3) * width];     // leading filter byte (0 = None)
+
+    out.write(SIGNATURE);
+    byte[] ihdr = new byte[13];
+    putInt(ihdr, 0, width);
+    putInt(ihdr, 4, height);
+    ihdr[8] = 8;   // bit depth
+    ihdr[9] = (byte) (alpha ? 6 : 2);   // colour type RGBA or RGB
+    writeChunk("IHDR", ihdr, ihdr.length);
+    idat = new DeflaterOutputStream(chunks, deflater, CHUNK);
+  }
+
+  /** Appends every row of {@code band}; its width must match the image width. */
+  void writeBand(BufferedImage band) throws IOException {
+    if (band.getWidth() != width) throw new IllegalArgumentException("band width " + band.getWidth() + " != " + width);
+    for (int y = 0; y < band.getHeight(); y++) {
+      if (rowsWritten == height) throw new IllegalStateException("more rows than the image height");
+      band.getRGB(0, y, width, 1, argb, 0, width);
+      if (alpha) {
+        for (int x = 0, o = 1; x < width; x++, o += 4) {
+          int p = argb[x];
+          row[o]     = (byte) (p >>> 16);
+          row[o + 1] = (byte) (p >>> 8);
+          row[o + 2] = (byte) p;
+          row[o + 3] = (byte) (p >>> 24);
+        }
+      } else {
+        for (int x = 0, o = 1; x < width; x++, o += 3) {
+          int p = argb[x];
+          row[o]     = (byte) (p >>> 16);
+          row[o + 1] = (byte) (p >>> 8);
+          row[o + 2] = (byte) p;
+        }
+      }
+      idat.write(row);
+      rowsWritten++;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (rowsWritten != height) throw new IllegalStateException("wrote " + rowsWritten + " of " + height + " rows");
+    idat.finish();
+    chunks.flush();
+    deflater.end();
+    writeChunk("IEND", new byte[0], 0);
+    out.flush();
+  }
+
+  private void writeChunk(String type, byte[] data, int len) throws IOException {
+    byte[] t = type.getBytes(StandardCharsets.US_ASCII);
+    CRC32 crc = new CRC32();
+    crc.update(t);
+    crc.update(data, 0, len);
+    out.writeInt(len);
+    out.write(t);
+    out.write(data, 0, len);
+    out.writeInt((int) crc.getValue());
+  }
+
+  private static void putInt(byte[] b, int at, int v){
+    b[at] = (byte) (v >>> 24); b[at + 1] = (byte) (v >>> 16); b[at + 2] = (byte) (v >>> 8); b[at + 3] = (byte) v;
+  }
+
+  /** Collects deflated bytes and emits them as IDAT chunks of at most {@link #CHUNK} bytes. */
+  private final class IdatStream extends OutputStream {
+    private final byte[] buf = new byte[CHUNK];
+    private int n;
+
+    @Override
+    public void write(int b) throws IOException {
+      if (n == buf.length) flush();
+      buf[n++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      while (len > 0) {
+        if (n == buf.length) flush();
+        int k = Math.min(len, buf.length - n);
+        System.arraycopy(b, off, buf, n, k);
+        n += k; off += k; len -= k;
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (n > 0) {
+        writeChunk("IDAT", buf, n);
+        n = 0;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
+}
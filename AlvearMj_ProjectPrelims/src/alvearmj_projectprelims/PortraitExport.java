@@ -0,0 +1,90 @@
+package alvearmj_projectprelims;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Headless, high-resolution PNG export of the portrait.
+ *
+ * The image is rendered in horizontal bands (each band split into parallel tiles) and every
+ * band is encoded straight into the PNG stream, so peak memory depends on the band height and
+ * width, not on the total size. Usage:
+ * <pre>
+ *   java -cp build/classes alvearmj_projectprelims.PortraitExport [options] out.png
+ *     --scale S         canvas scale (default 1; 422x447 px)
+ *     --width W         scale so the image is W pixels wide (overrides --scale)
+ *     --band N          band height in pixels (default 256)
+ *     --no-outlines     skip element outlines
+ *     --no-shading      skip the soft ground shadow
+ *     --transparent     keep the canvas transparent instead of the panel's white background
+ * </pre>
+ * Use {@code -} as the output to write the PNG to standard output.
+ */
+public final class PortraitExport {
+
+  private PortraitExport() {}
+
+  public static void main(String[] args) throws IOException {
+    System.setProperty("java.awt.headless", "true");
+
+    double scale = 1.0;
+    int band = 256;
+    boolean drawOutlines = true, drawShading = true, transparent = false;
+    String output = null;
+    try {
+      for (int i = 0; i < args.length; i++) {
+        switch (args[i]) {
+          case "--scale":       scale = Double.parseDouble(args[++i]); break;
+          case "--width":       scale = Integer.parseInt(args[++i]) / (double) AlvearMj_ProjectPrelims.BASE_W; break;
+          case "--band":        band = Integer.parseInt(args[++i]); break;
+          case "--no-outlines": drawOutlines = false; break;
+          case "--no-shading":  drawShading = false; break;
+          case "--transparent": transparent = true; break;
+          default:
+            if (args[i].startsWith("--") || output != null) throw new IllegalArgumentException("unknown argument " + args[i]);
+            output = args[i];
+        }
+      }
+      if (output == null) throw new IllegalArgumentException("missing output file");
+      if (!(scale > 0) || band <= 0) throw new IllegalArgumentException("scale and band must be positive");
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+      System.err.println("PortraitExport: " + ex.getMessage());
+      System.err.println("usage: PortraitExport [--scale S | --width W] [--band N] [--no-outlines] [--no-shading] [--transparent] out.png");
+      System.exit(2);
+      return;
+    }
+
+    Dimension size = TileRenderer.canvasSize(scale);
+    long t0 = System.nanoTime();
+    try (OutputStream os = "-".equals(output) ? System.out : Files.newOutputStream(Paths.get(output))) {
+      export(new BufferedOutputStream(os, 1 << 16), scale, band, drawOutlines, drawShading,
+          transparent ? null : AlvearMj_ProjectPrelims.BACKGROUND);
+    }
+    if (!"-".equals(output)) {
+      System.err.printf("Wrote %dx%d to %s in %d ms%n", size.width, size.height, output, (System.nanoTime() - t0) / 1_000_000);
+    }
+  }
+
+  /**
+   * Renders the canvas at {@code scale} band by band over {@code background} and streams it to
+   * {@code os} as PNG: RGB, or RGBA with the canvas left transparent when {@code background} is null.
+   */
+  static void export(OutputStream os, double scale, int band, boolean drawOutlines, boolean drawShading,
+                     Color background) throws IOException {
+    Dimension size = TileRenderer.canvasSize(scale);
+    try (PngBandWriter png = new PngBandWriter(os, size.width, size.height, background == null)) {
+      for (int y = 0; y < size.height; y += band) {
+        int h = Math.min(band, size.height - y);
+        BufferedImage rows = TileRenderer.render(0, y, size.width, h, scale, drawOutlines, drawShading, background);
+        png.writeBand(rows);
+      }
+    }
+    os.flush();
+  }
+}
@@ -0,0 +1,30 @@
+package alvearmj_projectprelims;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Regenerates {@code portrait.scene} from the traced geometry in {@link PortraitGeometry}.
+ *
+ * Run from the project folder after editing the geometry:
+ * <pre>
+ *   java -cp build/classes alvearmj_projectprelims.SceneConverter [output file]
+ * </pre>
+ * The default output is {@code src/alvearmj_projectprelims/portrait.scene}.
+ */
+public final class SceneConverter {
+
+  private SceneConverter() {}
+
+  public static void main(String[] args) throws IOException {
+    Path out = Paths.get(args.length > 0 ? args[0] : "src/alvearmj_projectprelims/" + SceneFormat.RESOURCE);
+    AlvearMj_ProjectPrelims.SceneElement[] elements = PortraitGeometry.compile();
+    try (OutputStream os = Files.newOutputStream(out)) {
+      SceneFormat.write(elements, os);
+    }
+    System.out.println("Wrote " + elements.length + " elements (" + Files.size(out) + " bytes) to " + out);
+  }
+}
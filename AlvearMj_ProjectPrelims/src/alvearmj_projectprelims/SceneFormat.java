@@ -0,0 +1,209 @@
+package alvearmj_projectprelims;
+
+import java.awt.*;
+import java.awt.geom.*;
+import java.io.*;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import alvearmj_projectprelims.AlvearMj_ProjectPrelims.SceneElement;
+
+/**
+ * Compact binary form of the portrait's element list ({@code portrait.scene}).
+ *
+ * Layout (big-endian):
+ * <pre>
+ *   int    magic 'APSG', short version
+ *   short  palette count,  int argb[palette count]
+ *   short  stroke count,   per stroke: float width, byte cap, byte join, float miter,
+ *                          short dash count, float dash[dash count], float dash phase
+ *   int    element count,  int total opcodes, int total coords
+ *   per element:           byte winding, short fill, short outline, short stroke,
+ *                          int opcode count, int coord count
+ *   byte   opcodes[total opcodes]   (PathIterator.SEG_* values)
+ *   float  coords[total coords]
+ * </pre>
+ * Shapes are stored as raw path segments, so rectangles and paths share one encoding.
+ */
+final class SceneFormat {
+
+  static final String RESOURCE = "portrait.scene";
+
+  private static final int MAGIC = 0x41505347; // "APSG"
+  private static final short VERSION = 1;
+
+  private SceneFormat() {}
+
+  /**
+   * Loads the bundled scene, memory-mapping it when it sits on the file system.
+   * Falls back to the generated {@link PortraitGeometry} code if the resource is missing or unreadable.
+   */
+  static SceneElement[] load(){
+    URL url = SceneFormat.class.getResource(RESOURCE);
+    if (url != null) {
+      try {
+        return read(open(url));
+      } catch (IOException | RuntimeException ex) {
+        System.err.println("Could not read " + url + ", using built-in geometry: " + ex);
+      }
+    }
+    return PortraitGeometry.compile();
+  }
+
+  private static ByteBuffer open(URL url) throws IOException {
+    if ("file".equals(url.getProtocol())) {
+      try (FileChannel ch = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+        return ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+      } catch (URISyntaxException ex) {
+        throw new IOException(ex);
+      }
+    }
+    // Inside a jar there is no file to map; read the (small) entry into a heap buffer.
+    try (InputStream in = url.openStream()) {
+      return ByteBuffer.wrap(in.readAllBytes());
+    }
+  }
+
+  /** Decodes a scene from {@code buf}, starting at its current position. */
+  static SceneElement[] read(ByteBuffer buf) throws IOException {
+    if (buf.getInt() != MAGIC) throw new IOException("not a scene file");
+    short version = buf.getShort();
+    if (version != VERSION) throw new IOException("unsupported scene version " + version);
+
+    Color[] palette = new Color[buf.getShort()];
+    for (int i = 0; i < palette.length; i++) palette[i] = new Color(buf.getInt(), true);
+
+    BasicStroke[] strokes = new BasicStroke[buf.getShort()];
+    for (int i = 0; i < strokes.length; i++) {
+      float width = buf.getFloat();
+      int cap = buf.get(), join = buf.get();
+      float miter = buf.getFloat();
+      float[] dash = new float[buf.getShort()];
+      for (int d = 0; d < dash.length; d++) dash[d] = buf.getFloat();
+      float phase = buf.getFloat();
+      strokes[i] = dash.length == 0
+          ? new BasicStroke(width, cap, join, miter)
+          : new BasicStroke(width, cap, join, miter, dash, phase);
+    }
+
+    int count = buf.getInt();
+    int totalOps = buf.getInt();
+    int totalCoords = buf.getInt();
+    int headerAt = buf.position();
+    int opsAt = headerAt + count * 15;
+    int coordsAt = opsAt + totalOps;
+
+    SceneElement[] out = new SceneElement[count];
+    int op = opsAt, co = coordsAt;
+    for (int i = 0; i < count; i++) {
+      int h = headerAt + i * 15;
+      int winding = buf.get(h);
+      Color fill = palette[buf.getShort(h + 1)];
+      Color outline = palette[buf.getShort(h + 3)];
+      BasicStroke stroke = strokes[buf.getShort(h + 5)];
+      int nOps = buf.getInt(h + 7);
+      int nCoords = buf.getInt(h + 11);
+
+      int start = co;
+      Path2D.Float p = new Path2D.Float(winding, nOps);
+      for (int k = 0; k < nOps; k++) {
+        switch (buf.get(op + k)) {
+          case PathIterator.SEG_MOVETO:
+            p.moveTo(buf.getFloat(co), buf.getFloat(co + 4)); co += 8; break;
+          case PathIterator.SEG_LINETO:
+            p.lineTo(buf.getFloat(co), buf.getFloat(co + 4)); co += 8; break;
+          case PathIterator.SEG_QUADTO:
+            p.quadTo(buf.getFloat(co), buf.getFloat(co + 4),
+                     buf.getFloat(co + 8), buf.getFloat(co + 12)); co += 16; break;
+          case PathIterator.SEG_CUBICTO:
+            p.curveTo(buf.getFloat(co), buf.getFloat(co + 4),
+                      buf.getFloat(co + 8), buf.getFloat(co + 12),
+                      buf.getFloat(co + 16), buf.getFloat(co + 20)); co += 24; break;
+          case PathIterator.SEG_CLOSE:
+            p.closePath(); break;
+          default:
+            throw new IOException("bad segment opcode in element " + i);
+        }
+      }
+      op += nOps;
+      if (co - start != 4 * nCoords) throw new IOException("coordinate count mismatch in element " + i);
+      out[i] = new SceneElement(p, fill, outline, stroke);
+    }
+    if (co != coordsAt + 4 * totalCoords) throw new IOException("coordinate section length mismatch");
+    return out;
+  }
+
+  private static int coordsPer(int seg){
+    switch (seg) {
+      case PathIterator.SEG_MOVETO:
+      case PathIterator.SEG_LINETO:  return 2;
+      case PathIterator.SEG_QUADTO:  return 4;
+      case PathIterator.SEG_CUBICTO: return 6;
+      default:                       return 0;
+    }
+  }
+
+  /** Encodes {@code elements} into the binary scene layout. */
+  static void write(SceneElement[] elements, OutputStream os) throws IOException {
+    Map<Color, Integer> palette = new LinkedHashMap<>();
+    Map<BasicStroke, Integer> strokes = new LinkedHashMap<>();
+    ByteArrayOutputStream ops = new ByteArrayOutputStream();
+    ByteArrayOutputStream coordBytes = new ByteArrayOutputStream();
+    DataOutputStream coords = new DataOutputStream(coordBytes);
+    ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+    DataOutputStream header = new DataOutputStream(headerBytes);
+
+    int totalOps = 0, totalCoords = 0;
+    float[] seg = new float[6];
+    for (SceneElement e : elements) {
+      PathIterator it = e.shape.getPathIterator(null);
+      int nOps = 0, nCoords = 0;
+      for (; !it.isDone(); it.next()) {
+        int type = it.currentSegment(seg);
+        ops.write(type);
+        int n = coordsPer(type);
+        for (int k = 0; k < n; k++) coords.writeFloat(seg[k]);
+        nOps++;
+        nCoords += n;
+      }
+      header.writeByte(it.getWindingRule());
+      header.writeShort(palette.computeIfAbsent(e.fill, c -> palette.size()));
+      header.writeShort(palette.computeIfAbsent(e.outline, c -> palette.size()));
+      header.writeShort(strokes.computeIfAbsent(e.stroke, s -> strokes.size()));
+      header.writeInt(nOps);
+      header.writeInt(nCoords);
+      totalOps += nOps;
+      totalCoords += nCoords;
+    }
+
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+    out.writeInt(MAGIC);
+    out.writeShort(VERSION);
+    out.writeShort(palette.size());
+    for (Color c : palette.keySet()) out.writeInt(c.getRGB());
+    out.writeShort(strokes.size());
+    for (BasicStroke s : strokes.keySet()) {
+      out.writeFloat(s.getLineWidth());
+      out.writeByte(s.getEndCap());
+      out.writeByte(s.getLineJoin());
+      out.writeFloat(s.getMiterLimit());
+      float[] dash = s.getDashArray();
+      out.writeShort(dash == null ? 0 : dash.length);
+      if (dash != null) for (float d : dash) out.writeFloat(d);
+      out.writeFloat(s.getDashPhase());
+    }
+    out.writeInt(elements.length);
+    out.writeInt(totalOps);
+    out.writeInt(totalCoords);
+    headerBytes.writeTo(out);
+    ops.writeTo(out);
+    coordBytes.writeTo(out);
+    out.flush();
+  }
+}
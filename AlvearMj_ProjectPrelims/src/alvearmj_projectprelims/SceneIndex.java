@@ -0,0 +1,71 @@
+package alvearmj_projectprelims;
+
+import java.awt.geom.Rectangle2D;
+
+import alvearmj_projectprelims.AlvearMj_ProjectPrelims.SceneElement;
+
+/**
+ * Uniform grid over the virtual canvas mapping each cell to the elements whose bounds touch it.
+ *
+ * Each cell holds a bit mask over element indices. A query ORs the masks of the cells under the
+ * clip one 64-element word at a time, and the caller walks each word's set bits in ascending order,
+ * which keeps the original painting order. Queries allocate nothing and share no state, so tiles
+ * can be culled from several threads at once.
+ */
+final class SceneIndex {
+
+  private final SceneElement[] elements;
+  private final int cols, rows;
+  private final double cellW, cellH;
+  private final long[][] cells;      // [row * cols + col] -> element bit mask
+  private final int words;
+
+  SceneIndex(SceneElement[] elements, double width, double height, int cols, int rows){
+    this.elements = elements;
+    this.cols = cols;
+    this.rows = rows;
+    this.cellW = width / cols;
+    this.cellH = height / rows;
+    this.words = (elements.length + 63) >>> 6;
+    this.cells = new long[cols * rows][words];
+    for (int i = 0; i < elements.length; i++) {
+      Rectangle2D b = elements[i].bounds;
+      int c0 = col(b.getMinX()), c1 = col(b.getMaxX());
+      int r0 = row(b.getMinY()), r1 = row(b.getMaxY());
+      for (int r = r0; r <= r1; r++) {
+        for (int c = c0; c <= c1; c++) cells[r * cols + c][i >>> 6] |= 1L << i;
+      }
+    }
+  }
+
+  /** Number of 64-element words in a candidate mask. */
+  int words(){ return words; }
+
+  /** Whether {@code area} touches every cell, so that every element is a candidate. */
+  boolean coversAll(Rectangle2D area){
+    return col(area.getMinX()) == 0 && row(area.getMinY()) == 0
+        && col(area.getMaxX()) == cols - 1 && row(area.getMaxY()) == rows - 1;
+  }
+
+  /**
+   * Returns word {@code w} of the bit mask of the elements whose bounds intersect {@code area}:
+   * bit {@code b} stands for element {@code 64 * w + b}.
+   */
+  long query(Rectangle2D area, int w){
+    int c0 = col(area.getMinX()), c1 = col(area.getMaxX());
+    int r0 = row(area.getMinY()), r1 = row(area.getMaxY());
+    long hits = 0;
+    for (int r = r0; r <= r1; r++) {
+      for (int c = c0; c <= c1; c++) hits |= cells[r * cols + c][w];
+    }
+    // Cells are coarse; drop candidates whose exact bounds still miss.
+    for (long bits = hits; bits != 0; bits &= bits - 1) {
+      int b = Long.numberOfTrailingZeros(bits);
+      if (!elements[(w << 6) + b].bounds.intersects(area)) hits &= ~(1L << b);
+    }
+    return hits;
+  }
+
+  private int col(double x){ return Math.max(0, Math.min(cols - 1, (int) Math.floor(x / cellW))); }
+  private int row(double y){ return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellH))); }
+}
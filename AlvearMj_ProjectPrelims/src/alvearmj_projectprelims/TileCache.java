@@ -0,0 +1,96 @@
+package alvearmj_projectprelims;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of rendered portrait tiles keyed by (zoom level, layer, tile x, tile y).
+ *
+ * A zoom level {@code L} renders the virtual canvas at scale {@code 2^(L/4)}, four levels per
+ * octave; any display scale is served from the nearest level at or above it and resampled down,
+ * so a level is never more than about 19% larger than what is shown, and resizing the window
+ * only rasterizes new tiles when it crosses into another level.
+ * Eviction is by least-recent use once the pixel memory exceeds the budget.
+ */
+final class TileCache {
+
+  /** Tile edge in pixels at the tile's own zoom level. */
+  static final int TILE = 256;
+
+  static final int LEVELS_PER_OCTAVE = 4;
+
+  /*
+   * Scales 1/16 to 65536. The cap only keeps tile pixel offsets within int range and tile indices
+   * within their 24 key bits (the canvas is 422 * 2^16, about 27.7M pixels wide at the top level);
+   * no window gets anywhere near it, so the picture never has to be stretched past its own level.
+   */
+  static final int MIN_LEVEL = -4 * LEVELS_PER_OCTAVE;
+  static final int MAX_LEVEL = 16 * LEVELS_PER_OCTAVE;
+
+  private final LinkedHashMap<Long, BufferedImage> tiles = new LinkedHashMap<>(64, 0.75f, true);
+  private long budgetBytes;
+  private long usedBytes;
+
+  TileCache(long budgetBytes){
+    this.budgetBytes = budgetBytes;
+  }
+
+  /** Smallest level whose scale is at least {@code scale}. */
+  static int levelFor(double scale){
+    int level = (int) Math.ceil(Math.log(scale) / Math.log(2) * LEVELS_PER_OCTAVE - 1e-9);
+    return Math.max(MIN_LEVEL, Math.min(MAX_LEVEL, level));
+  }
+
+  /** The scale a level renders the virtual canvas at. */
+  static double scaleOf(int level){
+    return Math.pow(2, level / (double) LEVELS_PER_OCTAVE);
+  }
+
+  /** Pixel memory of one full tile. */
+  static final long TILE_BYTES = 4L * TILE * TILE;
+
+  static long key(int level, int layer, int tx, int ty){
+    return ((long) (level - MIN_LEVEL) << 52) | ((long) (layer & 0xF) << 48)
+         | ((long) (tx & 0xFFFFFF) << 24) | (ty & 0xFFFFFF);
+  }
+
+  BufferedImage get(long key){
+    return tiles.get(key);
+  }
+
+  void put(long key, BufferedImage tile){
+    BufferedImage old = tiles.put(key, tile);
+    if (old != null) usedBytes -= bytes(old);
+    usedBytes += bytes(tile);
+    evict(key);
+  }
+
+  void clear(){
+    tiles.clear();
+    usedBytes = 0;
+  }
+
+  long getBudget(){ return budgetBytes; }
+
+  void setBudget(long bytes){
+    budgetBytes = bytes;
+    evict(Long.MIN_VALUE);
+  }
+
+  /** Drops least-recently used tiles until within budget, never dropping {@code keep}. */
+  private void evict(long keep){
+    Iterator<Map.Entry<Long, BufferedImage>> it = tiles.entrySet().iterator();
+    while (usedBytes > budgetBytes && it.hasNext()) {
+      Map.Entry<Long, BufferedImage> e = it.next();
+      if (e.getKey() == keep) continue;
+      usedBytes -= bytes(e.getValue());
+      it.remove();
+    }
+  }
+
+  private static long bytes(BufferedImage img){
+    return 4L * img.getWidth() * img.getHeight();
+  }
+}
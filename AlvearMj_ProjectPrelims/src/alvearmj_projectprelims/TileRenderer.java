@@ -0,0 +1,149 @@
+package alvearmj_projectprelims;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+import javax.swing.SwingUtilities;
+
+import static alvearmj_projectprelims.AlvearMj_ProjectPrelims.BASE_H;
+import static alvearmj_projectprelims.AlvearMj_ProjectPrelims.BASE_W;
+
+/**
+ * Rasterizes the portrait as independent tiles on a {@link ForkJoinPool}.
+ *
+ * Each tile gets its own clipped {@link BufferedImage}; the scene table is read-only after
+ * class initialization, so tiles can be painted concurrently. The painters skip elements whose
+ * bounds miss the tile's clip, so the work per tile follows what is actually in it.
+ * The panel uses {@link #renderAsync} so the event dispatch thread never waits for a tile;
+ * the exporter uses the blocking {@link #render}.
+ */
+final class TileRenderer {
+
+  /** Edge of the tiles used by {@link #render}. */
+  static final int TILE = TileCache.TILE;
+
+  private static final ForkJoinPool POOL = ForkJoinPool.commonPool();
+
+  private TileRenderer() {}
+
+  /** One layer of a pixel window of the scaled canvas; {@link #image} is filled in by {@link #renderAll}. */
+  static final class Tile {
+    final int layer;
+    final int x, y, w, h;
+    BufferedImage image;
+
+    Tile(int layer, int x, int y, int w, int h){
+      this.layer = layer;
+      this.x = x; this.y = y; this.w = w; this.h = h;
+    }
+  }
+
+  /** Renders every tile in {@code tiles}, in parallel when there is more than one. */
+  static void renderAll(List<Tile> tiles, double scale){
+    if (tiles.size() == 1) {
+      Tile t = tiles.get(0);
+      t.image = renderTile(t, scale);
+    } else if (!tiles.isEmpty()) {
+      POOL.invoke(new Batch(tiles, 0, tiles.size(), scale, null));
+    }
+  }
+
+  /**
+   * Renders {@code tiles} on the pool without waiting and then runs {@code done} on the event
+   * dispatch thread. Tiles whose turn comes after {@code wanted} turns false are skipped and keep
+   * a null {@link Tile#image}.
+   */
+  static void renderAsync(List<Tile> tiles, double scale, BooleanSupplier wanted, Runnable done){
+    POOL.execute(() -> {
+      try {
+        if (!tiles.isEmpty()) new Batch(tiles, 0, tiles.size(), scale, wanted).invoke();
+      } finally {
+        SwingUtilities.invokeLater(done);
+      }
+    });
+  }
+
+  /**
+   * Renders the {@code width x height} window at {@code (x, y)} of the canvas scaled by {@code scale}
+   * into one image, splitting it into tiles rasterized in parallel and composited afterwards over
+   * {@code background} (an opaque image), or over nothing when it is null (a translucent one).
+   */
+  static BufferedImage render(int x, int y, int width, int height, double scale, boolean drawOutlines, boolean drawShading,
+                              Color background){
+    int base = drawOutlines ? AlvearMj_ProjectPrelims.LAYER_OUTLINED : AlvearMj_ProjectPrelims.LAYER_FILL;
+    int[] layers = drawShading ? new int[]{ base, AlvearMj_ProjectPrelims.LAYER_SHADING } : new int[]{ base };
+    List<Tile> tiles = new ArrayList<>();
+    for (int layer : layers) {
+      Rectangle2D extent = AlvearMj_ProjectPrelims.layerBounds(layer);
+      for (int ty = 0; ty < height; ty += TILE) {
+        for (int tx = 0; tx < width; tx += TILE) {
+          int w = Math.min(TILE, width - tx), h = Math.min(TILE, height - ty);
+          if (extent.intersects((x + tx) / scale, (y + ty) / scale, w / scale, h / scale)) {
+            tiles.add(new Tile(layer, x + tx, y + ty, w, h));
+          }
+        }
+      }
+    }
+    renderAll(tiles, scale);
+
+    // Tiles are listed layer by layer, so drawing in order stacks the overlay on its base.
+    BufferedImage out = new BufferedImage(width, height, background == null ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = out.createGraphics();
+    if (background != null) {
+      g.setPaint(background);
+      g.fillRect(0, 0, width, height);
+    }
+    for (Tile t : tiles) g.drawImage(t.image, t.x - x, t.y - y, null);
+    g.dispose();
+    return out;
+  }
+
+  /** Full pixel size of the canvas at {@code scale}. */
+  static Dimension canvasSize(double scale){
+    return new Dimension((int) Math.ceil(BASE_W * scale), (int) Math.ceil(BASE_H * scale));
+  }
+
+  /** Rasterizes one layer of the tile's pixel window of the canvas scaled by {@code scale}. */
+  static BufferedImage renderTile(Tile t, double scale){
+    BufferedImage tile = new BufferedImage(t.w, t.h, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D tg = tile.createGraphics();
+    tg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    tg.clipRect(0, 0, t.w, t.h);     // explicit clip so painters can cull against getClipBounds()
+    tg.translate(-t.x, -t.y);
+    tg.scale(scale, scale);
+
+    // ---- Composition using painters with local transforms ----
+    AlvearMj_ProjectPrelims.paintLayer(tg, t.layer);
+
+    tg.dispose();
+    return tile;
+  }
+
+  /** Splits a run of tiles in halves until single tiles remain. */
+  private static final class Batch extends RecursiveAction {
+    private final List<Tile> tiles;
+    private final int from, to;
+    private final double scale;
+    private final BooleanSupplier wanted;   // null: render everything
+
+    Batch(List<Tile> tiles, int from, int to, double scale, BooleanSupplier wanted){
+      this.tiles = tiles; this.from = from; this.to = to; this.scale = scale; this.wanted = wanted;
+    }
+
+    @Override
+    protected void compute(){
+      if (to - from == 1) {
+        Tile t = tiles.get(from);
+        if (wanted == null || wanted.getAsBoolean()) t.image = renderTile(t, scale);
+        return;
+      }
+      int mid = (from + to) >>> 1;
+      invokeAll(new Batch(tiles, from, mid, scale, wanted), new Batch(tiles, mid, to, scale, wanted));
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package mp.pkg4wtl.alvear;
+
+/**
+ * Vehicle-actuated control with gap-out and max-out. Each approach has a presence detector
+ * covering the last {@code detectorLength} pixels before its stop line. After the minimum green,
+ * the green ends once no detector of the phase has seen a vehicle for {@code gapSec} seconds
+ * (gap-out), provided the other phase has vehicles waiting; the controller's green length caps
+ * it (max-out).
+ */
+final class ActuatedControl implements SignalStrategy {
+
+    private final double minGreen, gapSec, detectorLength;
+    private double sinceDetection;
+
+    ActuatedControl(double minGreen, double gapSec, double detectorLength) {
+        this.minGreen = minGreen;
+        this.gapSec = gapSec;
+        this.detectorLength = detectorLength;
+    }
+
+    @Override
+    public boolean endGreen(TrafficController c, int phase, double greenElapsed, double dt) {
+        if (greenElapsed <= dt) sinceDetection = 0; // a new green
+        boolean occupied = false;
+        for (Lane lane : c.getApproaches(phase)) occupied |= lane.occupancy(detectorLength) > 0;
+        sinceDetection = occupied ? 0 : sinceDetection + dt;
+        return greenElapsed >= minGreen && sinceDetection >= gapSec && SignalStrategy.demand(c, 1 - phase) > 0;
+    }
+
+    @Override
+    public String name() {
+        return String.format("actuated(min %.0fs, gap %.1fs)", minGreen, gapSec);
+    }
+}
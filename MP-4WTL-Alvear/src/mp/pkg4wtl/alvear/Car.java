@@ -0,0 +1,365 @@
+package mp.pkg4wtl.alvear;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.*;
+
+/** A vehicle on a lane, and the sprites it is drawn with. */
+class Car {
+
+    enum Kind { TRUCK, TAXI, SEDAN, SPORTS }
+
+    double x, y;
+    double v = 0;
+    final double dx, dy;
+    final double maxSpeed;
+    final int laneId;
+
+    final Kind kind;
+    final Color color;   // base/body color
+
+    // geometry (length along travel axis and width across)
+    final double length;
+    final double width;
+
+    private Car(double x, double y, double dx, double dy, double maxSpeed, int laneId,
+                Kind kind, Color color, double length, double width) {
+        this.x = x; this.y = y;
+        this.dx = dx; this.dy = dy;
+        this.maxSpeed = maxSpeed;
+        this.laneId = laneId;
+        this.kind = kind;
+        this.color = color;
+        this.length = length;
+        this.width = width;
+    }
+
+    /** Factory that randomly picks a vehicle type and reasonable color **/
+    public static Car random(double x, double y, double dx, double dy, double maxSpeed, int laneId, Random rng) {
+        int pick = rng.nextInt(4); // 0..3
+        switch (pick) {
+            case 0: // TRUCK
+                return new Car(x, y, dx, dy, maxSpeed, laneId,
+                        Kind.TRUCK,
+                        new Color(90 + rng.nextInt(120), 90 + rng.nextInt(120), 90 + rng.nextInt(120)),
+                        58, 22);
+            case 1: // TAXI
+                return new Car(x, y, dx, dy, maxSpeed, laneId,
+                        Kind.TAXI, new Color(255, 210, 0), 44, 20);
+            case 2: // SEDAN
+                return new Car(x, y, dx, dy, maxSpeed, laneId,
+                        Kind.SEDAN, randomNice(rng), 42, 20);
+            default: // SPORTS
+                return new Car(x, y, dx, dy, maxSpeed, laneId,
+                        Kind.SPORTS, randomBold(rng), 38, 18);
+        }
+    }
+
+    // helpers for colors
+    private static Color randomNice(Random r) {
+        int[] bases = {90, 110, 130, 150};
+        return new Color(bases[r.nextInt(bases.length)] + r.nextInt(80),
+                         bases[r.nextInt(bases.length)] + r.nextInt(80),
+                         bases[r.nextInt(bases.length)] + r.nextInt(80));
+    }
+    private static final Color[] BOLD_COLORS = {
+        new Color(220, 60, 50),  // red
+        new Color(40, 120, 240), // blue
+        new Color(245, 130, 30), // orange
+        new Color(30, 200, 140)  // teal
+    };
+    private static Color randomBold(Random r) {
+        return BOLD_COLORS[r.nextInt(BOLD_COLORS.length)];
+    }
+
+    public double halfLen() { return length / 2.0; }
+
+    public void draw(Graphics2D g) {
+        draw(g, x, y);
+    }
+
+    /** Draws the vehicle centered at (px, py), leaving its own position alone. */
+    public void draw(Graphics2D g, double px, double py) {
+        if (Sprites.draw(g, this, px, py)) return;
+
+        AffineTransform old = g.getTransform();
+        g.translate(px, py);
+        g.rotate(angle());
+        drawBody(g);
+        g.setTransform(old);
+    }
+
+    private double angle() {
+        double angle = 0;
+        if (dx == 1 && dy == 0) angle = 0;
+        else if (dx == -1 && dy == 0) angle = Math.PI;
+        else if (dx == 0 && dy == 1) angle = Math.PI / 2;
+        else if (dx == 0 && dy == -1) angle = -Math.PI / 2;
+        return angle;
+    }
+
+    /** 0..3 for east, west, south and north; -1 for any other heading. */
+    private int heading() {
+        if (dy == 0) return dx == 1 ? 0 : dx == -1 ? 1 : -1;
+        if (dx == 0) return dy == 1 ? 2 : dy == -1 ? 3 : -1;
+        return -1;
+    }
+
+    /** Draws the vehicle pointing along +x, centered on the origin. */
+    private void drawBody(Graphics2D g) {
+        switch (kind) {
+            case TRUCK -> drawTruck(g);
+            case TAXI -> drawTaxi(g);
+            case SEDAN -> drawSedan(g);
+            case SPORTS -> drawSports(g);
+        }
+    }
+
+    /**
+     * Vehicles pre-rendered at device resolution, one per (kind, body color, heading, device
+     * scale), so a car costs a single image blit. Every kind has one size, so those fully
+     * determine the picture. Sprites are made the first time a combination is drawn and the
+     * least recently used ones are dropped beyond {@link #MAX_SPRITES}. Panels drawing at
+     * different scales, or one panel zooming back and forth, share the cache without evicting
+     * each other's sprites wholesale.
+     */
+    static final class Sprites {
+        static final int MAX_SPRITES = 256;
+        // room around the body for the wheels and the taxi's roof sign
+        private static final double PAD_X = 2, PAD_Y = 8;
+
+        private static final LinkedHashMap<Key, BufferedImage> cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, BufferedImage> eldest) {
+                return size() > MAX_SPRITES;
+            }
+        };
+        // lookups reuse this key under the lock; only a miss stores a copy
+        private static final Key probe = new Key();
+        private static final AffineTransform IDENTITY = new AffineTransform();
+
+        private Sprites() {}
+
+        /**
+         * Blits {@code car}'s sprite centered at (px, py), snapped to the nearest device pixel.
+         * Returns false, drawing nothing, when the transform rotates, shears or flips, or the
+         * car's heading is not axis-aligned.
+         */
+        static boolean draw(Graphics2D g, Car car, double px, double py) {
+            AffineTransform at = g.getTransform();
+            int heading = car.heading();
+            if (heading < 0 || at.getShearX() != 0 || at.getShearY() != 0
+                    || at.getScaleX() <= 0 || at.getScaleY() <= 0) return false;
+
+            BufferedImage sprite = get(car, heading, at.getScaleX(), at.getScaleY());
+            double cx = at.getTranslateX() + px * at.getScaleX();
+            double cy = at.getTranslateY() + py * at.getScaleY();
+            g.setTransform(IDENTITY);
+            g.drawImage(sprite, (int) Math.round(cx - sprite.getWidth() / 2.0),
+                    (int) Math.round(cy - sprite.getHeight() / 2.0), null);
+            g.setTransform(at);
+            return true;
+        }
+
+        static synchronized int size() { return cache.size(); }
+
+        private static synchronized BufferedImage get(Car car, int heading, double sx, double sy) {
+            probe.set(car.kind.ordinal() << 26 | heading << 24 | (car.color.getRGB() & 0xFFFFFF), sx, sy);
+            BufferedImage sprite = cache.get(probe);
+            if (sprite == null) {
+                sprite = render(car, heading, sx, sy);
+                cache.put(probe.copy(), sprite);
+            }
+            return sprite;
+        }
+
+        /** Kind, heading and body color packed into one int, plus the device scale. */
+        private static final class Key {
+            private int look;
+            private double sx, sy;
+
+            void set(int look, double sx, double sy) {
+                this.look = look;
+                this.sx = sx;
+                this.sy = sy;
+            }
+
+            Key copy() {
+                Key k = new Key();
+                k.set(look, sx, sy);
+                return k;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (!(o instanceof Key)) return false;
+                Key k = (Key) o;
+                return look == k.look && Double.compare(sx, k.sx) == 0 && Double.compare(sy, k.sy) == 0;
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * (31 * look + Double.hashCode(sx)) + Double.hashCode(sy);
+            }
+        }
+
+        private static BufferedImage render(Car car, int heading, double sx, double sy) {
+            boolean alongX = heading < 2;
+            double hx = car.length / 2 + PAD_X, hy = car.width / 2 + PAD_Y;
+            int w = (int) Math.ceil(2 * (alongX ? hx : hy) * sx);
+            int h = (int) Math.ceil(2 * (alongX ? hy : hx) * sy);
+            BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g = img.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.translate(w / 2.0, h / 2.0);
+            g.scale(sx, sy);
+            g.rotate(car.angle());
+            car.drawBody(g);
+            g.dispose();
+            return img;
+        }
+    }
+
+    /* ---- Drawers ---- */
+
+    private void drawTruck(Graphics2D g) {
+        int L = (int) Math.round(length);
+        int W = (int) Math.round(width);
+        int trailerL = (int) Math.round(L * 0.62);
+        int cabL = L - trailerL;
+
+        int trailerX = -L / 2;
+        int cabX = trailerX + trailerL;
+
+        Color trailer = color;
+        Color cab = brighten(color, 0.18);
+        Color window = new Color(200, 220, 255, 220);
+
+        g.setColor(trailer);
+        g.fillRoundRect(trailerX, -W / 2, trailerL, W, 6, 6);
+
+        g.setColor(cab);
+        g.fillRoundRect(cabX, -W / 2, cabL, W, 6, 6);
+
+        g.setColor(window);
+        int winW = Math.max(6, (int) (cabL * 0.5));
+        int winH = Math.max(6, (int) (W * 0.45));
+        g.fillRoundRect(cabX + Math.max(2, (int) (cabL * 0.12)), -W / 2 + 3, winW, winH, 4, 4);
+
+        g.setColor(Color.BLACK);
+        int wheelW = 6, wheelH = 4;
+        g.fillRect(trailerX + (int) (trailerL * 0.25), W / 2 - 2, wheelW, wheelH);
+        g.fillRect(trailerX + (int) (trailerL * 0.25), -W / 2 - wheelH + 2, wheelW, wheelH);
+        g.fillRect(trailerX + (int) (trailerL * 0.6), W / 2 - 2, wheelW, wheelH);
+        g.fillRect(trailerX + (int) (trailerL * 0.6), -W / 2 - wheelH + 2, wheelW, wheelH);
+        g.fillRect(cabX + (int) (cabL * 0.65), W / 2 - 2, wheelW, wheelH);
+        g.fillRect(cabX + (int) (cabL * 0.65), -W / 2 - wheelH + 2, wheelW, wheelH);
+    }
+
+    private void drawSedan(Graphics2D g) {
+        int L = (int) Math.round(length);
+        int W = (int) Math.round(width);
+        int bodyX = -L / 2;
+
+        // body
+        g.setColor(color);
+        g.fillRoundRect(bodyX, -W / 2, L, W, 10, 10);
+
+        // roof
+        g.setColor(brighten(color, 0.22));
+        int roofL = (int) (L * 0.55);
+        g.fillRoundRect(bodyX + (int) (L * 0.22), - (int)(W * 0.45), roofL, (int) (W * 0.9), 8, 8);
+
+        // windows
+        g.setColor(new Color(200, 220, 255, 220));
+        g.fillRoundRect(bodyX + (int) (L * 0.28), - (int)(W * 0.35), (int) (roofL * 0.75), (int) (W * 0.7), 6, 6);
+
+        // wheels
+        g.setColor(Color.BLACK);
+        int w = 5, h = 4;
+        g.fillRect(bodyX + (int) (L * 0.2),  W/2 - 2, w, h);
+        g.fillRect(bodyX + (int) (L * 0.2), -W/2 - h + 2, w, h);
+        g.fillRect(bodyX + (int) (L * 0.75), W/2 - 2, w, h);
+        g.fillRect(bodyX + (int) (L * 0.75),-W/2 - h + 2, w, h);
+    }
+
+    private void drawTaxi(Graphics2D g) {
+        int L = (int) Math.round(length);
+        int W = (int) Math.round(width);
+        int bodyX = -L / 2;
+
+        // body (yellow)
+        g.setColor(color);
+        g.fillRoundRect(bodyX, -W / 2, L, W, 10, 10);
+
+        // checker stripe
+        g.setColor(Color.BLACK);
+        int stripeY = -2;
+        g.fillRect(bodyX + 3, stripeY, L - 6, 4);
+        g.setColor(Color.WHITE);
+        for (int i = bodyX + 6; i < bodyX + L - 6; i += 12) {
+            g.fillRect(i, stripeY, 6, 4);
+        }
+
+        // roof sign
+        g.setColor(Color.WHITE);
+        g.fillRoundRect(bodyX + (int) (L * 0.42), -W / 2 - 6, (int) (L * 0.16), 6, 3, 3);
+
+        // windows
+        g.setColor(new Color(190, 210, 240, 230));
+        g.fillRoundRect(bodyX + (int) (L * 0.22), - (int)(W * 0.34), (int) (L * 0.56), (int) (W * 0.68), 6, 6);
+
+        // wheels
+        g.setColor(Color.BLACK);
+        int w = 5, h = 4;
+        g.fillRect(bodyX + (int) (L * 0.18),  W/2 - 2, w, h);
+        g.fillRect(bodyX + (int) (L * 0.18), -W/2 - h + 2, w, h);
+        g.fillRect(bodyX + (int) (L * 0.74),  W/2 - 2, w, h);
+        g.fillRect(bodyX + (int) (L * 0.74), -W/2 - h + 2, w, h);
+    }
+
+    private void drawSports(Graphics2D g) {
+        int L = (int) Math.round(length);
+        int W = (int) Math.round(width);
+        int bodyX = -L / 2;
+
+        // low body
+        g.setColor(color);
+        g.fillRoundRect(bodyX, -W / 2, L, W, 14, 14);
+
+        // racing stripe
+        g.setColor(Color.WHITE);
+        g.fillRect(bodyX + (int) (L * 0.1), -2, (int) (L * 0.8), 4);
+
+        // canopy / windshield
+        g.setColor(new Color(180, 200, 235, 230));
+        g.fillRoundRect(bodyX + (int) (L * 0.35), - (int)(W * 0.32), (int) (L * 0.3), (int) (W * 0.64), 8, 8);
+
+        // little spoiler
+        g.setColor(darken(color, 0.25));
+        g.fillRoundRect(bodyX + (int) (L * 0.07), -W/2 - 2, (int) (L * 0.1), 4, 2, 2);
+
+        // wheels (slightly wider)
+        g.setColor(Color.BLACK);
+        int w = 6, h = 4;
+        g.fillRect(bodyX + (int) (L * 0.18),  W/2 - 2, w, h);
+        g.fillRect(bodyX + (int) (L * 0.18), -W/2 - h + 2, w, h);
+        g.fillRect(bodyX + (int) (L * 0.78),  W/2 - 2, w, h);
+        g.fillRect(bodyX + (int) (L * 0.78), -W/2 - h + 2, w, h);
+    }
+
+    /* small color helpers */
+    private static Color brighten(Color base, double by) {
+        int r = (int) Math.min(255, base.getRed() + 255 * by);
+        int g = (int) Math.min(255, base.getGreen() + 255 * by);
+        int b = (int) Math.min(255, base.getBlue() + 255 * by);
+        return new Color(r, g, b);
+    }
+    private static Color darken(Color base, double by) {
+        int r = (int) Math.max(0, base.getRed() * (1.0 - by));
+        int g = (int) Math.max(0, base.getGreen() * (1.0 - by));
+        int b = (int) Math.max(0, base.getBlue() * (1.0 - by));
+        return new Color(r, g, b);
+    }
+}
@@ -0,0 +1,263 @@
+package mp.pkg4wtl.alvear;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * A grid of {@code cols x rows} four-way intersections, each laid out like the single one in
+ * {@link IntersectionPanel} and {@link #BLOCK} pixels from its neighbours.
+ *
+ * Every intersection owns one approach lane per travel direction, held in a {@link LaneCore},
+ * and a {@link TrafficController} driving its two light groups. An approach starts where the
+ * upstream intersection's box ends and runs through its own box, so a car leaving it is handed
+ * straight to the next intersection's approach in the same direction, or leaves the city at the
+ * edge. Cars enter on the approaches at the edge of the grid.
+ *
+ * A step updates the intersections in parallel: each touches only its own lanes, controller and
+ * random source, and collects the cars leaving it in its own outbox. The outboxes are then
+ * merged in intersection order on the calling thread, so the result never depends on how the
+ * intersections were scheduled.
+ */
+final class CityGrid {
+
+    static final double BLOCK = 600;       // distance between neighbouring intersection centers
+    static final double HALF_BOX = 130;    // center to stop line, and center to the far side of the box
+    static final double LANE_OFFSET = 50;  // lane center from road center
+
+    // Approach directions, indexed the same way everywhere below
+    static final int SOUTHBOUND = 0, NORTHBOUND = 1, EASTBOUND = 2, WESTBOUND = 3;
+    static final double[] DIR_X = {0, 0, 1, -1};
+    static final double[] DIR_Y = {1, -1, 0, 0};
+    // Lane ids as in IntersectionPanel: 1 & 3 share light group 0, 2 & 4 group 1
+    private static final int[] LANE_ID = {1, 3, 2, 4};
+    private static final int[] GROUP = {0, 0, 1, 1};
+
+    private static final double MAX_SPEED = 160, ACCEL = 280, DECEL = 650;
+
+    final int cols, rows;
+    private final Intersection[] nodes;
+    private final double arrivalsPerSec;
+    private boolean parallel = true;
+
+    private double time;
+    private long entered, departed;
+
+    /**
+     * @param offsetSec      signal offset between neighbouring intersections along a row or
+     *                       column (0 starts every controller in the same phase)
+     * @param arrivalsPerSec mean arrival rate on each approach at the edge of the grid
+     * @param seed           seed for arrivals and vehicle types; equal seeds give equal runs
+     */
+    CityGrid(int cols, int rows, int greenSec, int yellowSec, double offsetSec, double arrivalsPerSec, long seed) {
+        if (cols <= 0 || rows <= 0) throw new IllegalArgumentException("grid must be at least 1x1");
+        this.cols = cols;
+        this.rows = rows;
+        this.arrivalsPerSec = arrivalsPerSec;
+        nodes = new Intersection[cols * rows];
+        Random seeds = new Random(seed);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Intersection n = new Intersection(col, row, greenSec, yellowSec, seeds.nextLong());
+                double offset = (col + row) * offsetSec % (2 * (greenSec + yellowSec));
+                if (offset > 0) n.controller.advance(offset);
+                nodes[row * cols + col] = n;
+            }
+        }
+    }
+
+    double getTime() { return time; }
+    long getEntered() { return entered; }
+    long getDeparted() { return departed; }
+    double getWidth() { return cols * BLOCK; }
+    double getHeight() { return rows * BLOCK; }
+
+    /** Whether {@link #step} updates intersections on the common fork-join pool (the default). */
+    void setParallel(boolean parallel) { this.parallel = parallel; }
+
+    Intersection get(int col, int row) { return nodes[row * cols + col]; }
+
+    int vehicleCount() {
+        int n = 0;
+        for (Intersection node : nodes) {
+            for (LaneCore<Car> lane : node.approach) n += lane.size();
+        }
+        return n;
+    }
+
+    /**
+     * Copies the grid into {@code s}: time, totals and one lane view per approach, at index
+     * {@code 4 * (row * cols + col) + dir}. Call from the thread that steps the grid.
+     */
+    void snapshot(Snapshot s) {
+        s.time = time;
+        s.entered = entered;
+        s.departed = departed;
+        int vehicles = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            Intersection n = nodes[i];
+            for (int d = 0; d < 4; d++) {
+                LaneCore<Car> lane = n.approach.get(d);
+                Snapshot.LaneView view = s.lane(4 * i + d);
+                view.reset(n.lightState(d), n.light(d).getCountdownSec(), lane.size());
+                for (int k = 0; k < lane.size(); k++) {
+                    Car car = n.place(d, k);
+                    view.set(k, car, car.x, car.y);
+                }
+                vehicles += lane.size();
+            }
+        }
+        s.vehicles = vehicles;
+    }
+
+    /** The intersection a car leaving {@code from} in direction {@code dir} reaches next, or null at the edge. */
+    private Intersection downstream(Intersection from, int dir) {
+        int col = from.col + (int) DIR_X[dir], row = from.row + (int) DIR_Y[dir];
+        return col < 0 || col >= cols || row < 0 || row >= rows ? null : get(col, row);
+    }
+
+    /** Advances the whole grid by {@code dt} seconds. */
+    void step(double dt) {
+        if (parallel && nodes.length > 1) {
+            IntStream.range(0, nodes.length).parallel().forEach(k -> nodes[k].update(dt));
+        } else {
+            for (Intersection n : nodes) n.update(dt);
+        }
+
+        // Deterministic merge: hand the outboxes over in intersection order
+        for (Intersection n : nodes) {
+            entered += n.spawned;
+            n.spawned = 0;
+            Outbox out = n.outbox;
+            for (int h = 0; h < out.count; h++) {
+                Intersection next = downstream(n, out.dir[h]);
+                if (next == null) departed++;
+                else next.approach.get(out.dir[h]).append(out.overshoot[h], out.v[h], out.length[h], out.car[h]);
+            }
+            out.clear();
+        }
+
+        // Each approach's front car follows the last car of the approach it feeds into next step
+        for (Intersection n : nodes) {
+            for (int d = 0; d < 4; d++) {
+                LaneCore<Car> lane = n.approach.get(d);
+                Intersection next = downstream(n, d);
+                if (next == null) {
+                    lane.setLeader(Double.POSITIVE_INFINITY, 0);
+                } else {
+                    LaneCore<Car> ahead = next.approach.get(d);
+                    lane.setLeader(lane.exitS + ahead.lastRear(), ahead.lastSpeed());
+                }
+            }
+        }
+        time += dt;
+    }
+
+    /* --- Intersection --- */
+    final class Intersection {
+
+        final int col, row;
+        final double centerX, centerY;
+        final TrafficController controller;
+        private final TrafficLight[] lights = new TrafficLight[2];
+        final List<LaneCore<Car>> approach = new ArrayList<>(4);
+        final double[] startX = new double[4], startY = new double[4];
+        private final boolean[] entry = new boolean[4];
+        private final Random rng;
+        private final Outbox outbox = new Outbox();
+        private int spawned;
+
+        Intersection(int col, int row, int greenSec, int yellowSec, long seed) {
+            this.col = col;
+            this.row = row;
+            this.centerX = (col + 0.5) * BLOCK;
+            this.centerY = (row + 0.5) * BLOCK;
+            this.rng = new Random(seed);
+            controller = new TrafficController(greenSec, yellowSec);
+            lights[0] = new TrafficLight(0, controller);
+            lights[1] = new TrafficLight(1, controller);
+
+            for (int d = 0; d < 4; d++) {
+                // same sides as IntersectionPanel: southbound east of the road center, eastbound south of it
+                double lateralX = d == SOUTHBOUND ? LANE_OFFSET : d == NORTHBOUND ? -LANE_OFFSET : 0;
+                double lateralY = d == EASTBOUND ? LANE_OFFSET : d == WESTBOUND ? -LANE_OFFSET : 0;
+                startX[d] = centerX - DIR_X[d] * (BLOCK - HALF_BOX) + lateralX;
+                startY[d] = centerY - DIR_Y[d] * (BLOCK - HALF_BOX) + lateralY;
+
+                int nextCol = col + (int) DIR_X[d], nextRow = row + (int) DIR_Y[d];
+                boolean exitsCity = nextCol < 0 || nextCol >= cols || nextRow < 0 || nextRow >= rows;
+                int prevCol = col - (int) DIR_X[d], prevRow = row - (int) DIR_Y[d];
+                entry[d] = prevCol < 0 || prevCol >= cols || prevRow < 0 || prevRow >= rows;
+
+                // Lanes leaving the city run on past the edge of the map before dropping their cars
+                double exitS = exitsCity ? BLOCK + BLOCK / 2 + 60 : BLOCK;
+                LaneCore<Car> lane = new LaneCore<>(BLOCK - 2 * HALF_BOX, exitS, MAX_SPEED, ACCEL, DECEL, 16);
+                lane.setLinked(true);
+                approach.add(lane);
+            }
+        }
+
+        TrafficLight.State lightState(int dir) { return lights[GROUP[dir]].getState(); }
+        TrafficLight light(int dir) { return lights[GROUP[dir]]; }
+
+        /** Runs on a pool thread: touches nothing outside this intersection. */
+        private void update(double dt) {
+            controller.advance(dt);
+            double p = arrivalsPerSec * dt;
+            for (int d = 0; d < 4; d++) {
+                LaneCore<Car> lane = approach.get(d);
+                if (entry[d] && rng.nextDouble() < p && lane.canSpawn()) {
+                    Car car = Car.random(startX[d], startY[d], DIR_X[d], DIR_Y[d], MAX_SPEED, LANE_ID[d], rng);
+                    lane.append(0, 0, car.length, car);
+                    spawned++;
+                }
+                outbox.currentDir = d;
+                lane.update(dt, lightState(d), outbox);
+            }
+        }
+
+        /** Copies the core's state for vehicle {@code k} of approach {@code dir} into its Car. */
+        Car place(int dir, int k) {
+            LaneCore<Car> lane = approach.get(dir);
+            Car car = lane.tag(k);
+            double s = lane.position(k);
+            car.x = startX[dir] + DIR_X[dir] * s;
+            car.y = startY[dir] + DIR_Y[dir] * s;
+            car.v = lane.speed(k);
+            return car;
+        }
+    }
+
+    /** Cars leaving one intersection during a step, in the order they left. */
+    private static final class Outbox implements LaneCore.ExitSink<Car> {
+        int currentDir;
+        int count;
+        int[] dir = new int[16];
+        double[] overshoot = new double[16], v = new double[16], length = new double[16];
+        Car[] car = new Car[16];
+
+        @Override
+        public void exited(double overshoot, double v, double length, Car tag) {
+            if (count == dir.length) {
+                int cap = count * 2;
+                dir = java.util.Arrays.copyOf(dir, cap);
+                this.overshoot = java.util.Arrays.copyOf(this.overshoot, cap);
+                this.v = java.util.Arrays.copyOf(this.v, cap);
+                this.length = java.util.Arrays.copyOf(this.length, cap);
+                car = java.util.Arrays.copyOf(car, cap);
+            }
+            dir[count] = currentDir;
+            this.overshoot[count] = overshoot;
+            this.v[count] = v;
+            this.length[count] = length;
+            car[count] = tag;
+            count++;
+        }
+
+        void clear() {
+            java.util.Arrays.fill(car, 0, count, null);
+            count = 0;
+        }
+    }
+}
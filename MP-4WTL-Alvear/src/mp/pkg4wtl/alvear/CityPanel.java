@@ -0,0 +1,242 @@
+package mp.pkg4wtl.alvear;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.geom.AffineTransform;
+
+/**
+ * Pannable, zoomable view of a {@link CityGrid}. A {@link CityScheduler} steps the grid off the
+ * EDT; painting only reads the snapshots it publishes, so panning and zooming stay responsive
+ * however long a step of a large grid takes.
+ */
+class CityPanel extends JPanel {
+
+    private static final double MIN_ZOOM = 0.05, MAX_ZOOM = 2;
+    // Below this zoom cars are drawn as plain boxes and buildings without windows
+    private static final double DETAIL_ZOOM = 0.3;
+
+    // paint state, shared so a frame allocates none of it
+    private static final Color SIDEWALK = new Color(180, 180, 185);
+    private static final Color ASPHALT = new Color(50, 50, 50);
+    private static final Color CENTER_LINE = new Color(255, 204, 0);
+    private static final Color BOX_OUTLINE = new Color(230, 230, 230, 100);
+    private static final BasicStroke LINE_STROKE = new BasicStroke(4f);
+    private static final BasicStroke STOP_LINE_STROKE = new BasicStroke(5f);
+    private static final Font STATUS_FONT = new Font(Font.DIALOG, Font.BOLD, 12);
+    private static final Font COUNTDOWN_FONT = new Font(Font.DIALOG, Font.BOLD, 13);
+    private static final AffineTransform IDENTITY = new AffineTransform();
+
+    private final CityGrid grid;
+    private final FrameStats frameStats = new FrameStats("CityPanel", 40);
+    private final CityScheduler scheduler;
+
+    // viewport: world coordinates of the top-left corner, and device pixels per world pixel
+    private double viewX, viewY;
+    private double zoom = 1;
+    private Point dragFrom;
+
+    CityPanel(CityGrid grid, int w, int h) {
+        this.grid = grid;
+        setPreferredSize(new Dimension(w, h));
+        setBackground(new Color(135, 135, 135));
+
+        scheduler = new CityScheduler(grid, this::repaint, frameStats);
+        scheduler.publish();
+
+        // drag to pan, wheel to zoom around the cursor
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) { dragFrom = e.getPoint(); }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                viewX -= (e.getX() - dragFrom.x) / zoom;
+                viewY -= (e.getY() - dragFrom.y) / zoom;
+                dragFrom = e.getPoint();
+                repaint();
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                double z = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom * Math.pow(1.15, -e.getPreciseWheelRotation())));
+                viewX += e.getX() / zoom - e.getX() / z;
+                viewY += e.getY() / zoom - e.getY() / z;
+                zoom = z;
+                repaint();
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+
+        // 'F' toggles the frame statistics overlay, 'R' clears it
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_F, 0), "toggleFrameStats");
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_R, 0), "resetFrameStats");
+        getActionMap().put("toggleFrameStats", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frameStats.setOverlayVisible(!frameStats.isOverlayVisible());
+                repaint();
+            }
+        });
+        getActionMap().put("resetFrameStats", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frameStats.reset();
+            }
+        });
+    }
+
+    public void start() {
+        frameStats.registerMBean();
+        scheduler.start();
+    }
+
+    public void stop() { scheduler.stop(); }
+
+    CityScheduler getScheduler() { return scheduler; }
+
+    /** Centers the viewport on world point (x, y) at the given zoom. */
+    void lookAt(double x, double y, double z) {
+        zoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, z));
+        viewX = x - getPreferredSize().width / 2.0 / zoom;
+        viewY = y - getPreferredSize().height / 2.0 / zoom;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g0) {
+        long paintStart = System.nanoTime();
+        super.paintComponent(g0);
+        Graphics2D g = (Graphics2D) g0.create();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.scale(zoom, zoom);
+        g.translate(-viewX, -viewY);
+
+        // visible world rectangle, and the intersections whose tiles it touches
+        double x0 = viewX, y0 = viewY;
+        double x1 = viewX + getWidth() / zoom, y1 = viewY + getHeight() / zoom;
+        double B = CityGrid.BLOCK;
+        int c0 = Math.max(0, (int) Math.floor(x0 / B)), c1 = Math.min(grid.cols - 1, (int) Math.floor(x1 / B));
+        int r0 = Math.max(0, (int) Math.floor(y0 / B)), r1 = Math.min(grid.rows - 1, (int) Math.floor(y1 / B));
+        boolean detail = zoom >= DETAIL_ZOOM;
+        Snapshot frame = scheduler.latest();
+
+        // buildings: one per block between roads, including the half blocks at the edges
+        int roadW = 240, sidewalkW = 20, pad = 16;
+        double inset = roadW / 2.0 + sidewalkW + pad;
+        for (int row = r0 - 1; row <= r1; row++) {
+            for (int col = c0 - 1; col <= c1; col++) {
+                double bx0 = Math.max(0, (col + 0.5) * B + inset), bx1 = Math.min(grid.getWidth(), (col + 1.5) * B - inset);
+                double by0 = Math.max(0, (row + 0.5) * B + inset), by1 = Math.min(grid.getHeight(), (row + 1.5) * B - inset);
+                if (bx1 <= bx0 || by1 <= by0) continue;
+                if (detail) {
+                    IntersectionPanel.drawBuildingBlock(g, (int) bx0, (int) by0, (int) (bx1 - bx0), (int) (by1 - by0));
+                } else {
+                    g.setColor(IntersectionPanel.BUILDING_WALL);
+                    g.fillRect((int) bx0, (int) by0, (int) (bx1 - bx0), (int) (by1 - by0));
+                }
+            }
+        }
+
+        // roads: only the visible stretch of each visible row and column
+        int vy0 = (int) Math.max(0, y0), vy1 = (int) Math.min(grid.getHeight(), y1 + 1);
+        int vx0 = (int) Math.max(0, x0), vx1 = (int) Math.min(grid.getWidth(), x1 + 1);
+        g.setColor(SIDEWALK);
+        for (int col = c0; col <= c1; col++) {
+            int cx = (int) ((col + 0.5) * B);
+            g.fillRect(cx - roadW / 2 - sidewalkW, vy0, roadW + 2 * sidewalkW, vy1 - vy0);
+        }
+        for (int row = r0; row <= r1; row++) {
+            int cy = (int) ((row + 0.5) * B);
+            g.fillRect(vx0, cy - roadW / 2 - sidewalkW, vx1 - vx0, roadW + 2 * sidewalkW);
+        }
+        g.setColor(ASPHALT);
+        for (int col = c0; col <= c1; col++) g.fillRect((int) ((col + 0.5) * B) - roadW / 2, vy0, roadW, vy1 - vy0);
+        for (int row = r0; row <= r1; row++) g.fillRect(vx0, (int) ((row + 0.5) * B) - roadW / 2, vx1 - vx0, roadW);
+
+        // per intersection: center lines, stop lines, lights
+        for (int row = r0; row <= r1; row++) {
+            for (int col = c0; col <= c1; col++) drawIntersection(g, frame, grid.get(col, row), detail);
+        }
+
+        // vehicles: an approach reaches back into the tile upstream, so look one intersection
+        // beyond the visible ones and cull each car against the viewport
+        double margin = 40;
+        for (int row = Math.max(0, r0 - 1); row <= Math.min(grid.rows - 1, r1 + 1); row++) {
+            for (int col = Math.max(0, c0 - 1); col <= Math.min(grid.cols - 1, c1 + 1); col++) {
+                for (int d = 0; d < 4; d++) {
+                    Snapshot.LaneView lane = frame.lane(4 * (row * grid.cols + col) + d);
+                    for (int k = 0; k < lane.size(); k++) {
+                        double x = lane.x(k), y = lane.y(k);
+                        if (x < x0 - margin || x > x1 + margin || y < y0 - margin || y > y1 + margin) continue;
+                        Car car = lane.car(k);
+                        if (detail) {
+                            car.draw(g, x, y);
+                        } else {
+                            g.setColor(car.color);
+                            double hl = car.halfLen(), hw = car.width / 2;
+                            boolean alongX = CityGrid.DIR_X[d] != 0;
+                            g.fillRect((int) (x - (alongX ? hl : hw)), (int) (y - (alongX ? hw : hl)),
+                                       (int) (alongX ? car.length : car.width), (int) (alongX ? car.width : car.length));
+                        }
+                    }
+                }
+            }
+        }
+
+        g.setTransform(IDENTITY);
+        frameStats.recordPaint(System.nanoTime() - paintStart);
+        g.setColor(Color.WHITE);
+        g.setFont(STATUS_FONT);
+        g.drawString(String.format("%dx%d grid  t=%.0fs  cars %d  entered %d  left %d",
+                grid.cols, grid.rows, frame.time, frame.vehicles, frame.entered, frame.departed),
+                8, getHeight() - 10);
+        frameStats.drawOverlay(g, 8, 8);
+
+        g.dispose();
+    }
+
+    private void drawIntersection(Graphics2D g, Snapshot frame, CityGrid.Intersection n, boolean detail) {
+        int lanes = 4 * (n.row * grid.cols + n.col);
+        int cx = (int) n.centerX, cy = (int) n.centerY;
+        int half = (int) CityGrid.HALF_BOX;
+
+        if (detail) {
+            // center lines up to the box, on both sides
+            g.setColor(CENTER_LINE);
+            g.setStroke(LINE_STROKE);
+            int reach = (int) (CityGrid.BLOCK / 2);
+            g.drawLine(cx, cy - reach, cx, cy - 160);
+            g.drawLine(cx, cy + 160, cx, cy + reach);
+            g.drawLine(cx - reach, cy, cx - 160, cy);
+            g.drawLine(cx + 160, cy, cx + reach, cy);
+
+            g.setStroke(LINE_STROKE);
+            g.setColor(BOX_OUTLINE);
+            g.drawRect(cx - 120, cy - 120, 240, 240);
+        }
+
+        // stop lines, colored by the light that governs them
+        g.setStroke(STOP_LINE_STROKE);
+        for (int d = 0; d < 4; d++) {
+            TrafficLight.State state = frame.lane(lanes + d).light;
+            g.setColor(state == TrafficLight.State.GREEN ? Color.GREEN
+                     : state == TrafficLight.State.YELLOW ? Color.YELLOW : Color.RED);
+            double dx = CityGrid.DIR_X[d], dy = CityGrid.DIR_Y[d];
+            int sx = (int) (cx - dx * half), sy = (int) (cy - dy * half);
+            if (dx != 0) g.drawLine(sx, (int) n.startY[d] - 50, sx, (int) n.startY[d] + 50);
+            else g.drawLine((int) n.startX[d] - 50, sy, (int) n.startX[d] + 50, sy);
+        }
+
+        if (detail) {
+            // countdown of each light group, at the corners used by IntersectionPanel
+            g.setColor(Color.WHITE);
+            g.setFont(COUNTDOWN_FONT);
+            int south = frame.lane(lanes + CityGrid.SOUTHBOUND).countdownSec;
+            int east = frame.lane(lanes + CityGrid.EASTBOUND).countdownSec;
+            if (south != TrafficLight.NO_COUNTDOWN) g.drawString(south + "s", cx + half + 4, cy - half - 6);
+            if (east != TrafficLight.NO_COUNTDOWN) g.drawString(east + "s", cx - half - 30, cy - half - 6);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package mp.pkg4wtl.alvear;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The clock of a {@link CityGrid}: steps it in fixed {@link SimulationScheduler#STEP} increments
+ * on one background thread, the way {@link SimulationScheduler} drives a single intersection.
+ *
+ * After each wake-up the grid is copied into a {@link Snapshot}, one lane view per approach in
+ * intersection order, and published through a {@link SnapshotBuffer}; then the listener is told.
+ * The grid, its lanes and its cars are only touched by this thread (and the fork-join workers of
+ * a parallel step), so the EDT never waits for a step and painting never sees one half done.
+ */
+final class CityScheduler implements Runnable {
+
+    private final CityGrid grid;
+    private final SnapshotBuffer frames;
+    private final Runnable listener;
+    private final FrameStats frameStats;
+
+    private long steps;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param listener   told on the scheduler thread that a new snapshot is available
+     * @param frameStats timing sink for the update step, or null
+     */
+    CityScheduler(CityGrid grid, Runnable listener, FrameStats frameStats) {
+        this.grid = grid;
+        this.listener = listener;
+        this.frameStats = frameStats;
+        frames = new SnapshotBuffer(4 * grid.cols * grid.rows);
+    }
+
+    long getSteps() { return steps; }
+
+    /** Advances the grid by one step. Call only from the scheduler thread, or while it is stopped. */
+    void step() {
+        grid.step(SimulationScheduler.STEP);
+        steps++;
+    }
+
+    /**
+     * Captures the grid into the free snapshot buffer, publishes it and tells the listener.
+     * Call only from the scheduler thread, or while it is stopped.
+     */
+    void publish() {
+        Snapshot back = frames.back();
+        back.step = steps;
+        grid.snapshot(back);
+        frames.publish();
+        listener.run();
+    }
+
+    /**
+     * The newest published snapshot. Call from a single reader thread (the EDT); the snapshot
+     * returned stays unchanged until that thread calls again.
+     */
+    Snapshot latest() {
+        return frames.latest();
+    }
+
+    synchronized void start() {
+        if (thread != null) return;
+        running = true;
+        thread = new Thread(this, "CityPanel simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Stops the clock and waits for the current step to finish. */
+    synchronized void stop() {
+        running = false;
+        if (thread == null) return;
+        if (thread != Thread.currentThread()) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    @Override
+    public void run() {
+        long next = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            if (now < next) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            for (int n = 0; n < SimulationScheduler.MAX_STEPS_PER_WAKE && next <= now; n++) {
+                if (frameStats != null) frameStats.frameStart();
+                long t0 = System.nanoTime();
+                step();
+                if (frameStats != null) frameStats.recordUpdate(System.nanoTime() - t0);
+                next += SimulationScheduler.STEP_NANOS;
+            }
+            if (next <= now) next = now + SimulationScheduler.STEP_NANOS;
+            publish();
+        }
+    }
+}
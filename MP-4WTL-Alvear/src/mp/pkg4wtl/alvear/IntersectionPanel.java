@@ -0,0 +1,296 @@
+package mp.pkg4wtl.alvear;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.*;
+
+/** The single four-way intersection: draws the published snapshots and handles the keys. */
+class IntersectionPanel extends JPanel {
+
+    private final int width, height;
+    private final java.util.List<Lane> lanes = new ArrayList<>();
+    private static final int centerX = 450, centerY = 450;
+    private final Random rng = new Random();
+    private final TrafficController controller;
+    private final SimulationScheduler scheduler;
+    private final FrameStats frameStats = new FrameStats("IntersectionPanel", 40);
+
+    // Everything that never changes (plazas, buildings, roads, markings, signal housings)
+    // pre-rendered at the current device scale
+    private BufferedImage backdropCache;
+    private double backdropScaleX, backdropScaleY;
+
+    // timing in seconds
+    private final int GREEN_SEC = 8;
+    private final int YELLOW_SEC = 3;
+
+    public IntersectionPanel(int w, int h) {
+        this.width = w;
+        this.height = h;
+        setPreferredSize(new Dimension(w, h));
+        setBackground(new Color(28, 28, 28));
+
+        lanes.addAll(buildLanes(w, h));
+
+        controller = new TrafficController(GREEN_SEC, YELLOW_SEC);
+        // -Dmp4wtl.signal=actuated or max-pressure swaps the fixed cycle for an adaptive one
+        controller.setStrategy(SignalStrategy.forName(System.getProperty("mp4wtl.signal", "fixed")));
+        boolean laneCore = Boolean.getBoolean("mp4wtl.laneCore");
+        for (Lane ln : lanes) {
+            ln.setController(controller);
+            ln.useCore(laneCore);
+        }
+
+        // one arrival per lane per second on average (as the old 25% chance every 250 ms),
+        // signals and movement all stepped ~25 times a second off the EDT
+        // painting reads only the scheduler's latest published snapshot, never the lanes
+        scheduler = new SimulationScheduler(controller, lanes, 1.0, rng, this::repaint, frameStats);
+        scheduler.publish();
+
+        // 'F' toggles the frame statistics overlay, 'R' clears it
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_F, 0), "toggleFrameStats");
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_R, 0), "resetFrameStats");
+        getActionMap().put("toggleFrameStats", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frameStats.setOverlayVisible(!frameStats.isOverlayVisible());
+                repaint();
+            }
+        });
+        getActionMap().put("resetFrameStats", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frameStats.reset();
+            }
+        });
+    }
+
+    /** The four approach lanes of a {@code width x height} panel, in N->S, S->N, W->E, E->W order. */
+    static java.util.List<Lane> buildLanes(int width, int height) {
+        java.util.List<Lane> lanes = new ArrayList<>();
+        int laneSpacing = 100;
+
+        // N->S lane (right side of vertical road) - stop just before intersection box
+        lanes.add(new Lane(1, "N->S", centerX + laneSpacing / 2, -80, 0, 1, centerY - 130));
+
+        // S->N lane (left side of vertical road)
+        lanes.add(new Lane(3, "S->N", centerX - laneSpacing / 2, height + 80, 0, -1, centerY + 130));
+
+        // W->E lane (bottom side of horizontal road)
+        lanes.add(new Lane(2, "W->E", -80, centerY + laneSpacing / 2, 1, 0, centerX - 130));
+
+        // E->W lane (top side of horizontal road)
+        lanes.add(new Lane(4, "E->W", width + 80, centerY - laneSpacing / 2, -1, 0, centerX + 130));
+        return lanes;
+    }
+
+    public void start() {
+        frameStats.registerMBean();
+        scheduler.start();
+    }
+
+    /** Stops spawning, signal cycling and animation; the lanes keep their current cars. */
+    public void stop() {
+        scheduler.stop();
+    }
+
+    java.util.List<Lane> getLanes() { return lanes; }
+    SimulationScheduler getScheduler() { return scheduler; }
+
+    @Override
+    protected void paintComponent(Graphics g0) {
+        long paintStart = System.nanoTime();
+        super.paintComponent(g0);
+        Graphics2D g = (Graphics2D) g0.create();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        AffineTransform device = g.getTransform();
+        Snapshot frame = scheduler.latest();
+
+        g.drawImage(cachedBackdrop(device.getScaleX(), device.getScaleY()), 0, 0, width, height, null);
+
+        // lanes (lights + vehicles)
+        for (int i = 0; i < lanes.size(); i++) lanes.get(i).draw(g, frame.lane(i));
+
+        frameStats.recordPaint(System.nanoTime() - paintStart);
+        frameStats.drawOverlay(g, 8, 8);
+
+        g.dispose();
+    }
+
+    /**
+     * Returns the static layers rendered at {@code sx} x {@code sy} device pixels per panel
+     * unit, re-rendering them only when the scale has changed.
+     */
+    private BufferedImage cachedBackdrop(double sx, double sy) {
+        if (backdropCache == null || sx != backdropScaleX || sy != backdropScaleY) {
+            int w = Math.max(1, (int) Math.round(width * sx));
+            int h = Math.max(1, (int) Math.round(height * sy));
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            BufferedImage img = gc != null
+                    ? gc.createCompatibleImage(w, h, Transparency.OPAQUE)
+                    : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D bg = img.createGraphics();
+            bg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            bg.scale(sx, sy);
+            bg.setFont(getFont());
+            bg.setColor(getBackground());
+            bg.fillRect(0, 0, width, height);
+            drawBackdrop(bg);
+            bg.dispose();
+            backdropCache = img;
+            backdropScaleX = sx;
+            backdropScaleY = sy;
+        }
+        return backdropCache;
+    }
+
+    private void drawBackdrop(Graphics2D g) {
+        // --- CONCRETE CORNERS + BUILDINGS (replaces grass) ---
+        int pad = 16;
+        int block = 200;
+        Color concrete = new Color(135, 135, 135);
+        g.setColor(concrete);
+        g.fillRect(0, 0, block, block);                       // NW plaza
+        g.fillRect(width - block, 0, block, block);           // NE plaza
+        g.fillRect(0, height - block, block, block);          // SW plaza
+        g.fillRect(width - block, height - block, block, block); // SE plaza
+
+        drawBuildingBlock(g, pad, pad, block - 2 * pad, block - 2 * pad);                                  // NW building
+        drawBuildingBlock(g, width - block + pad, pad, block - 2 * pad, block - 2 * pad);                   // NE building
+        drawBuildingBlock(g, pad, height - block + pad, block - 2 * pad, block - 2 * pad);                  // SW building
+        drawBuildingBlock(g, width - block + pad, height - block + pad, block - 2 * pad, block - 2 * pad);  // SE building
+
+        // sidewalks (draw before roads)
+        int roadW = 240;
+        int sidewalkW = 20;
+        Color sidewalkColor = new Color(180, 180, 185);
+        g.setColor(sidewalkColor);
+        
+        // Vertical road sidewalks
+        g.fillRect(centerX - roadW / 2 - sidewalkW, 0, sidewalkW, height); // left sidewalk
+        g.fillRect(centerX + roadW / 2, 0, sidewalkW, height); // right sidewalk
+        
+        // Horizontal road sidewalks
+        g.fillRect(0, centerY - roadW / 2 - sidewalkW, width, sidewalkW); // top sidewalk
+        g.fillRect(0, centerY + roadW / 2, width, sidewalkW); // bottom sidewalk
+        
+        // Add sidewalk tiles/texture
+        g.setColor(new Color(160, 160, 165, 100));
+        g.setStroke(new BasicStroke(1f));
+        // Vertical sidewalk tiles
+        for (int y = 0; y < height; y += 30) {
+            g.drawLine(centerX - roadW / 2 - sidewalkW, y, centerX - roadW / 2, y);
+            g.drawLine(centerX + roadW / 2, y, centerX + roadW / 2 + sidewalkW, y);
+        }
+        // Horizontal sidewalk tiles
+        for (int x = 0; x < width; x += 30) {
+            g.drawLine(x, centerY - roadW / 2 - sidewalkW, x, centerY - roadW / 2);
+            g.drawLine(x, centerY + roadW / 2, x, centerY + roadW / 2 + sidewalkW);
+        }
+        
+        // roads
+        int laneOffset = 50;
+        int stopRange = 160;
+        g.setColor(new Color(50, 50, 50));
+        g.fillRect(centerX - roadW / 2, 0, roadW, height);
+        g.fillRect(0, centerY - roadW / 2, width, roadW);
+
+        // center lines
+        g.setColor(new Color(255, 204, 0));
+        g.setStroke(new BasicStroke(4f));
+        g.drawLine(centerX, 0, centerX, centerY - stopRange);
+        g.drawLine(centerX, centerY + stopRange, centerX, height);
+        g.drawLine(0, centerY, centerX - stopRange, centerY);
+        g.drawLine(centerX + stopRange, centerY, width, centerY);
+
+        // dashed dividers
+        g.setColor(Color.WHITE);
+        float[] dashPattern = {25f, 25f};
+        g.setStroke(new BasicStroke(5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f, dashPattern, 0f));
+        for (int y = 0; y < centerY - stopRange; y += 50) {
+            g.drawLine(centerX - laneOffset, y, centerX - laneOffset, y + 25);
+            g.drawLine(centerX + laneOffset, y, centerX + laneOffset, y + 25);
+        }
+        for (int y = centerY + stopRange; y < height; y += 50) {
+            g.drawLine(centerX - laneOffset, y, centerX - laneOffset, y + 25);
+            g.drawLine(centerX + laneOffset, y, centerX + laneOffset, y + 25);
+        }
+        for (int x = 0; x < centerX - stopRange; x += 50) {
+            g.drawLine(x, centerY - laneOffset, x + 25, centerY - laneOffset);
+            g.drawLine(x, centerY + laneOffset, x + 25, centerY + laneOffset);
+        }
+        for (int x = centerX + stopRange; x < width; x += 50) {
+            g.drawLine(x, centerY - laneOffset, x + 25, centerY - laneOffset);
+            g.drawLine(x, centerY + laneOffset, x + 25, centerY + laneOffset);
+        }
+
+        // crosswalks
+        g.setStroke(new BasicStroke(10f));
+        g.drawLine(centerX - 100, centerY - 120, centerX + 100, centerY - 120);
+        g.drawLine(centerX - 100, centerY + 120, centerX + 100, centerY + 120);
+        g.drawLine(centerX - 120, centerY - 100, centerX - 120, centerY + 100);
+        g.drawLine(centerX + 120, centerY - 100, centerX + 120, centerY + 100);
+        
+        // Add zebra stripes to crosswalks
+        g.setColor(Color.WHITE);
+        g.setStroke(new BasicStroke(8f));
+        for (int i = -90; i <= 90; i += 20) {
+            g.drawLine(centerX + i, centerY - 125, centerX + i, centerY - 115);
+            g.drawLine(centerX + i, centerY + 115, centerX + i, centerY + 125);
+        }
+        for (int i = -90; i <= 90; i += 20) {
+            g.drawLine(centerX - 125, centerY + i, centerX - 115, centerY + i);
+            g.drawLine(centerX + 115, centerY + i, centerX + 125, centerY + i);
+        }
+        
+        // sidewalk curbs at corners
+        g.setColor(new Color(140, 140, 145));
+        g.setStroke(new BasicStroke(3f));
+        int curbDist = 130;
+        g.drawRoundRect(centerX - curbDist, centerY - curbDist, 20, 20, 8, 8);
+        g.drawRoundRect(centerX + curbDist - 20, centerY - curbDist, 20, 20, 8, 8);
+        g.drawRoundRect(centerX - curbDist, centerY + curbDist - 20, 20, 20, 8, 8);
+        g.drawRoundRect(centerX + curbDist - 20, centerY + curbDist - 20, 20, 20, 8, 8);
+
+        // stop box
+        g.setStroke(new BasicStroke(4f));
+        g.setColor(new Color(230, 230, 230, 100));
+        g.drawRect(centerX - 120, centerY - 120, 240, 240);
+
+        // lanes (labels, light housings, stop lines)
+        for (Lane lane : lanes) lane.drawStatic(g);
+    }
+
+    // CityPanel draws a building per block every frame, so these are shared
+    static final Color BUILDING_WALL = new Color(90, 90, 95);
+    private static final Color BUILDING_OUTLINE = new Color(70, 70, 74);
+    private static final Color BUILDING_WINDOW = new Color(235, 235, 180, 210);
+    private static final BasicStroke BUILDING_STROKE = new BasicStroke(3f);
+
+    /** Small helper to draw a building with windows inside a concrete block **/
+    static void drawBuildingBlock(Graphics2D g, int x, int y, int w, int h) {
+        g.setColor(BUILDING_WALL);
+        g.fillRoundRect(x, y, w, h, 12, 12);
+        g.setColor(BUILDING_OUTLINE);
+        g.setStroke(BUILDING_STROKE);
+        g.drawRoundRect(x, y, w, h, 12, 12);
+
+        g.setColor(BUILDING_WINDOW);
+        int cols = Math.max(3, w / 40);
+        int rows = Math.max(3, h / 40);
+        int margin = 12;
+        int winW = Math.max(6, (w - 2 * margin) / cols - 6);
+        int winH = Math.max(8, (h - 2 * margin) / rows - 6);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int wx = x + margin + c * (winW + 6);
+                int wy = y + margin + r * (winH + 6);
+                g.fillRoundRect(wx, wy, winW, winH, 3, 3);
+            }
+        }
+    }
+}
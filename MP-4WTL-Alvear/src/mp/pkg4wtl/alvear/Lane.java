@@ -0,0 +1,366 @@
+package mp.pkg4wtl.alvear;
+
+import java.awt.*;
+import java.util.*;
+
+/** One approach lane: its cars, spawning, car-following and stop-line logic. */
+class Lane {
+
+    private final int id;
+    private final String name;
+    final double startX, startY;
+    final double dirX, dirY;
+    final double stopCoord; // x or y of stop line (depending on axis)
+    private final double stopS; // distance from the spawn point to the stop line
+    // Only the thread stepping the lane touches its vehicles; painting reads snapshots instead
+    private final java.util.List<Car> cars = new ArrayList<>();
+    private TrafficController controller;
+    private TrafficLight light;
+    private final Random rng = new Random();
+    private LaneCore<Car> core; // when set, holds the vehicles instead of cars
+
+    // motion params - adjusted for higher traffic volume
+    private final double maxSpeed = 160.0;  // px/s (slightly faster)
+    private final double accel = 280.0;     // px/s^2 (quicker acceleration)
+    private final double decel = 650.0;     // px/s^2 (strong braking)
+
+    /** Vehicles before the stop line slower than this (px/s) count as queued. */
+    static final double QUEUE_SPEED = 5.0;
+
+    // measurements, updated every step
+    private long departures;     // vehicles whose front has crossed the stop line
+    private double totalDelay;   // vehicle-seconds lost to slowing before the stop line
+    private int passed;          // vehicles currently in the lane past the stop line
+
+    public Lane(int id, String name, double startX, double startY, double dirX, double dirY, double stopCoord) {
+        this.id = id;
+        this.name = name;
+        this.startX = startX;
+        this.startY = startY;
+        this.dirX = dirX;
+        this.dirY = dirY;
+        this.stopCoord = stopCoord;
+        boolean alongX = Math.abs(dirX) > 0;
+        this.stopS = (stopCoord - (alongX ? startX : startY)) * (alongX ? Math.signum(dirX) : Math.signum(dirY));
+    }
+
+    public void setController(TrafficController c) {
+        this.controller = c;
+        int group = (id == 1 || id == 3) ? 0 : 1;
+        this.light = new TrafficLight(group, c);
+        c.addListener(() -> {});
+        c.addApproach(group, this);
+    }
+
+    /** Reseeds the vehicle type and color choices, for repeatable runs. */
+    public void setSeed(long seed) {
+        rng.setSeed(seed);
+    }
+
+    /**
+     * Moves this lane's vehicles into a {@link LaneCore} (or back into the car list). The core
+     * runs the same rules on primitive ring buffers; the Car objects are kept only for drawing.
+     */
+    public void useCore(boolean enable) {
+        if (enable && core == null) {
+            boolean alongX = Math.abs(dirX) > 0;
+            double start = alongX ? startX : startY;
+            double sign = alongX ? Math.signum(dirX) : Math.signum(dirY);
+            double exitS = sign > 0 ? 1200 - start : start + 200;
+            core = new LaneCore<>(stopS, exitS, maxSpeed, accel, decel, 64);
+            for (Car car : cars) {
+                core.append((car.x - startX) * dirX + (car.y - startY) * dirY, car.v, car.length, car);
+            }
+            cars.clear();
+        } else if (!enable && core != null) {
+            for (int k = 0; k < core.size(); k++) cars.add(placeFromCore(k));
+            core = null;
+        }
+    }
+
+    /**
+     * Moves the lane onto a {@link LaneCore} whose vehicles drive up to the stop line on red and
+     * queue there, instead of halting wherever they are when the light changes. Signal-timing
+     * measurements need real queues to mean anything.
+     */
+    public void useQueueing() {
+        useCore(true);
+        core.setLinked(true);
+    }
+
+    /** Copies the core's state for vehicle {@code k} back into its Car. */
+    private Car placeFromCore(int k) {
+        Car car = core.tag(k);
+        double s = core.position(k);
+        car.x = startX + dirX * s;
+        car.y = startY + dirY * s;
+        car.v = core.speed(k);
+        return car;
+    }
+
+    /** Adds a vehicle at the spawn point if there is room; returns whether it was added. */
+    public boolean spawnCarIfSpace() {
+        if (core != null) {
+            if (core.canSpawn()) {
+                Car car = Car.random(startX, startY, dirX, dirY, maxSpeed, id, rng);
+                core.append(0, 0, car.length, car);
+                return true;
+            }
+            return false;
+        }
+        Car last = cars.isEmpty() ? null : cars.get(cars.size() - 1);
+        if (last == null) {
+            cars.add(Car.random(startX, startY, dirX, dirY, maxSpeed, id, rng));
+            return true;
+        } else {
+            double d = (Math.abs(dirX) > 0) ? Math.abs(last.x - startX) : Math.abs(last.y - startY);
+            double minSpacing = last.length + 35; // Reduced spacing for more traffic
+            if (d > minSpacing) {
+                cars.add(Car.random(startX, startY, dirX, dirY, maxSpeed, id, rng));
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /* ---- Measurements (read by adaptive signal strategies and the evaluators) ---- */
+
+    private int vehicleCount() { return core != null ? core.size() : cars.size(); }
+
+    /** Distance of vehicle {@code k} (0 = front) from the spawn point. */
+    private double positionOf(int k) {
+        if (core != null) return core.position(k);
+        Car car = cars.get(k);
+        return (car.x - startX) * dirX + (car.y - startY) * dirY;
+    }
+
+    private double speedOf(int k) { return core != null ? core.speed(k) : cars.get(k).v; }
+    private double lengthOf(int k) { return core != null ? core.length(k) : cars.get(k).length; }
+
+    /** Vehicles waiting before the stop line (slower than {@link #QUEUE_SPEED}). */
+    public int queueLength() {
+        int n = 0;
+        for (int k = 0; k < vehicleCount(); k++) {
+            if (positionOf(k) + lengthOf(k) / 2 <= stopS && speedOf(k) < QUEUE_SPEED) n++;
+        }
+        return n;
+    }
+
+    /** Vehicles that have not yet reached the stop line, moving or not. */
+    public int approaching() {
+        return vehicleCount() - passed;
+    }
+
+    /**
+     * Fraction of the {@code zone} pixels just before the stop line covered by vehicles, as a
+     * presence detector of that length would see it.
+     */
+    public double occupancy(double zone) {
+        double covered = 0;
+        for (int k = passed; k < vehicleCount(); k++) {
+            double s = positionOf(k), half = lengthOf(k) / 2;
+            double front = Math.min(stopS, s + half), rear = Math.max(stopS - zone, s - half);
+            if (front > rear) covered += front - rear;
+            else if (s + half < stopS - zone) break; // the rest are further back
+        }
+        return covered / zone;
+    }
+
+    public long getDepartures() { return departures; }
+    public double getTotalDelay() { return totalDelay; }
+
+    public void update(double dt) {
+        int before = vehicleCount();
+        if (core != null) core.update(dt, light.getState());
+        else updateCars(dt);
+        measure(dt, before - vehicleCount());
+    }
+
+    /** Counts stop-line crossings and accumulates delay after a step that dropped {@code exited} vehicles. */
+    private void measure(double dt, int exited) {
+        int n = vehicleCount(), nowPassed = 0;
+        double delay = 0;
+        for (int k = 0; k < n; k++) {
+            if (positionOf(k) + lengthOf(k) / 2 > stopS) nowPassed++;
+            else delay += 1 - speedOf(k) / maxSpeed;
+        }
+        departures += nowPassed - (passed - exited);
+        passed = nowPassed;
+        totalDelay += delay * dt;
+    }
+
+    private void updateCars(double dt) {
+        for (int i = 0; i < cars.size(); i++) {
+            Car car = cars.get(i);
+
+            // distance to stop line using this vehicle's length
+            double halfL = car.halfLen();
+            double distToStop;
+            if (Math.abs(dirX) > 0) {
+                distToStop = (dirX > 0) ? (stopCoord - (car.x + halfL))
+                                        : ((car.x - halfL) - stopCoord);
+            } else {
+                distToStop = (dirY > 0) ? (stopCoord - (car.y + halfL))
+                                        : ((car.y - halfL) - stopCoord);
+            }
+
+            // gap to the vehicle ahead (using both vehicles' lengths)
+            Car ahead = (i == 0) ? null : cars.get(i - 1);
+            double gapToAhead = Double.POSITIVE_INFINITY;
+            if (ahead != null) {
+                double aheadHalf = ahead.halfLen();
+                if (Math.abs(dirX) > 0) {
+                    double aheadRear = ahead.x - Math.signum(dirX) * aheadHalf;
+                    double thisFront = car.x + Math.signum(dirX) * halfL;
+                    gapToAhead = (dirX > 0) ? (aheadRear - thisFront) : (thisFront - aheadRear);
+                } else {
+                    double aheadRear = ahead.y - Math.signum(dirY) * aheadHalf;
+                    double thisFront = car.y + Math.signum(dirY) * halfL;
+                    gapToAhead = (dirY > 0) ? (aheadRear - thisFront) : (thisFront - aheadRear);
+                }
+            }
+
+            double stoppingDistance = (car.v * car.v) / (2.0 * decel) + 10.0;
+
+            double desiredSpeed;
+            boolean pastStop = (distToStop < -30);
+            TrafficLight.State state = light.getState();
+
+            // Determine if car has crossed the stop line (committed to intersection)
+            boolean crossedStopLine = (distToStop < 0);
+
+            if (pastStop) {
+                // Completely through the intersection
+                desiredSpeed = maxSpeed;
+            } else if (crossedStopLine) {
+                // Already committed - MUST continue through intersection
+                desiredSpeed = maxSpeed;
+            } else if (state == TrafficLight.State.GREEN) {
+                desiredSpeed = maxSpeed;
+            } else if (state == TrafficLight.State.YELLOW) {
+                // If we can stop safely before the line, stop. Otherwise proceed.
+                if (distToStop > stoppingDistance) {
+                    desiredSpeed = 0;  // Can stop safely
+                } else {
+                    desiredSpeed = maxSpeed;  // Too close to stop, go through
+                }
+            } else {
+                // RED light - stop at the line
+                desiredSpeed = 0;
+            }
+
+            // Following distance logic
+            if (ahead != null && !crossedStopLine) {
+                // Calculate how close we should get based on whether we're stopping or moving
+                double targetGap;
+                
+                if (desiredSpeed == 0 || ahead.v < 5) {
+                    // We're stopping OR car ahead is stopped/very slow
+                    // Get close but leave small buffer (just vehicle length + small gap)
+                    targetGap = 8;  // Very tight spacing when stopped
+                } else {
+                    // Normal following - speed-based gap
+                    targetGap = Math.max(12, car.v * 0.4);
+                }
+                
+                if (gapToAhead < 2) {
+                    // Too close! Emergency slow down
+                    desiredSpeed = Math.min(desiredSpeed, ahead.v * 0.3);
+                } else if (gapToAhead < targetGap) {
+                    // Within target range - match speed of car ahead
+                    desiredSpeed = Math.min(desiredSpeed, ahead.v);
+                } else if (gapToAhead < targetGap * 2) {
+                    // A bit far but approaching - gradual slow down
+                    desiredSpeed = Math.min(desiredSpeed, maxSpeed * 0.7);
+                }
+                // else: gap is good, maintain desired speed
+            }
+
+            if (car.v < desiredSpeed) car.v = Math.min(car.v + accel * dt, desiredSpeed);
+            else car.v = Math.max(car.v - decel * dt, desiredSpeed);
+
+            car.x += car.v * dirX * dt;
+            car.y += car.v * dirY * dt;
+
+            if (car.x < -200 || car.x > 1200 || car.y < -200 || car.y > 1200) {
+                cars.remove(i);
+                i--;
+            }
+        }
+    }
+
+    /** Copies the light and vehicle positions into {@code view}, a snapshot buffer the painter does not hold. */
+    void snapshot(Snapshot.LaneView view) {
+        int n = core != null ? core.size() : cars.size();
+        view.reset(light.getState(), light.getCountdownSec(), n);
+        for (int k = 0; k < n; k++) {
+            Car car = core != null ? placeFromCore(k) : cars.get(k);
+            view.set(k, car, car.x, car.y);
+        }
+    }
+
+    /** Draws the parts of the lane that never change: label, light housing and stop line. */
+    public void drawStatic(Graphics2D g) {
+        // lane label
+        g.setFont(g.getFont().deriveFont(Font.BOLD, 12f));
+        g.setColor(Color.WHITE);
+        int lx = (int) startX, ly = (int) startY;
+        if (Math.abs(dirX) > 0) g.drawString("Lane " + id + " (" + name + ")", lx - 30, ly + (dirY == 0 ? -10 : 0));
+        else g.drawString("Lane " + id + " (" + name + ")", lx + 6, ly + 14);
+
+        // traffic light box near corners
+        g.setColor(new Color(50, 50, 50, 240));
+        g.fillRoundRect(lightBoxX(), lightBoxY(), LIGHT_BOX_W, LIGHT_BOX_H, 8, 8);
+        g.setColor(Color.DARK_GRAY);
+        g.setStroke(new BasicStroke(2f));
+        g.drawRoundRect(lightBoxX(), lightBoxY(), LIGHT_BOX_W, LIGHT_BOX_H, 8, 8);
+
+        // stop line (draw thicker and more visible)
+        g.setColor(Color.WHITE);
+        g.setStroke(new BasicStroke(5f));
+        if (Math.abs(dirX) > 0) {
+            int yLine = (int) (stopCoordY());
+            g.drawLine((int) stopCoord, yLine - 50, (int) stopCoord, yLine + 50);
+        } else {
+            int xLine = (int) (stopCoordX());
+            g.drawLine(xLine - 50, (int) stopCoord, xLine + 50, (int) stopCoord);
+        }
+    }
+
+    /** Draws the lit lamps, the countdown and the vehicles as captured in {@code view}. */
+    public void draw(Graphics2D g, Snapshot.LaneView view) {
+        int tx = lightBoxX(), ty = lightBoxY();
+        int cx = tx + LIGHT_BOX_W / 2;
+        int cy = ty + 18;
+        Color rcol = (view.light == TrafficLight.State.RED) ? Color.RED : LAMP_OFF;
+        Color ycol = (view.light == TrafficLight.State.YELLOW) ? Color.YELLOW : LAMP_OFF;
+        Color gcol = (view.light == TrafficLight.State.GREEN) ? Color.GREEN : LAMP_OFF;
+        g.setColor(rcol); g.fillOval(cx - 12, cy - 6, 24, 24);
+        g.setColor(ycol); g.fillOval(cx - 12, cy + 22, 24, 24);
+        g.setColor(gcol); g.fillOval(cx - 12, cy + 50, 24, 24);
+
+        g.setColor(Color.WHITE);
+        g.setFont(g.getFont().deriveFont(Font.BOLD, 13f));
+        if (view.countdownSec != TrafficLight.NO_COUNTDOWN) {
+            g.drawString(view.countdownSec + "s", tx + LIGHT_BOX_W / 2 - 10, ty + LIGHT_BOX_H + 16);
+        }
+
+        // vehicles
+        for (int k = 0; k < view.size(); k++) view.car(k).draw(g, view.x(k), view.y(k));
+    }
+
+    // traffic light box near corners
+    private static final int LIGHT_BOX_W = 44, LIGHT_BOX_H = 120, CORNER_OFFSET = 130;
+    private static final Color LAMP_OFF = new Color(60, 60, 60);
+
+    private int lightBoxX() {
+        return (id == 1 || id == 4) ? 450 + CORNER_OFFSET : 450 - CORNER_OFFSET - LIGHT_BOX_W;
+    }
+
+    private int lightBoxY() {
+        return (id == 1 || id == 2) ? 450 - CORNER_OFFSET - LIGHT_BOX_H : 450 + CORNER_OFFSET;
+    }
+
+    private double stopCoordX() { return (Math.abs(dirX) > 0) ? stopCoord : (startX); }
+    private double stopCoordY() { return (Math.abs(dirY) > 0) ? stopCoord : (startY); }
+}
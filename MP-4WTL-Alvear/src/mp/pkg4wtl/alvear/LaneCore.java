@@ -0,0 +1,193 @@
+package mp.pkg4wtl.alvear;
+
+/**
+ * Structure-of-arrays vehicle core for one lane: the same car-following and stop-line rules as
+ * {@link Lane#update}, restated along a single scalar axis.
+ *
+ * Each vehicle is its center position {@code s} along the lane (0 at the spawn point, growing in
+ * the direction of travel), its speed and its length, held in power-of-two ring buffers ordered
+ * front to back. Vehicles enter at the back and leave from the front, so nothing is ever shifted.
+ * The optional tag (the {@link Car} that draws the vehicle, for instance) is never read by the
+ * update loop.
+ */
+final class LaneCore<T> {
+
+    /** Minimum free space behind the last vehicle before another may spawn, on top of its length. */
+    static final double SPAWN_SPACING = 35;
+
+    final double stopS, exitS;
+    final double maxSpeed, accel, decel;
+
+    private double[] pos, vel, len;
+    private Object[] tags;
+    private int head, count, mask;
+
+    // The vehicle beyond the exit that the front vehicle follows (another lane's last one, say)
+    private double leaderRear = Double.POSITIVE_INFINITY, leaderV;
+    private boolean linked;
+
+    /** Receives the vehicles leaving a lane, front first. */
+    interface ExitSink<T> {
+        /** @param overshoot how far past {@link #exitS} the vehicle's center has moved */
+        void exited(double overshoot, double v, double length, T tag);
+    }
+
+    /**
+     * @param stopS distance from the spawn point to the stop line
+     * @param exitS distance past which a vehicle has left the lane
+     */
+    LaneCore(double stopS, double exitS, double maxSpeed, double accel, double decel, int capacity) {
+        this.stopS = stopS;
+        this.exitS = exitS;
+        this.maxSpeed = maxSpeed;
+        this.accel = accel;
+        this.decel = decel;
+        int cap = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        pos = new double[cap];
+        vel = new double[cap];
+        len = new double[cap];
+        tags = new Object[cap];
+        mask = cap - 1;
+    }
+
+    int size() { return count; }
+
+    /** Index {@code k} counts from the front vehicle (0) backwards. */
+    double position(int k) { return pos[(head + k) & mask]; }
+    double speed(int k) { return vel[(head + k) & mask]; }
+    double length(int k) { return len[(head + k) & mask]; }
+
+    @SuppressWarnings("unchecked")
+    T tag(int k) { return (T) tags[(head + k) & mask]; }
+
+    /** Whether the last vehicle has moved far enough from the spawn point for another to enter. */
+    boolean canSpawn() {
+        if (count == 0) return true;
+        int last = (head + count - 1) & mask;
+        return pos[last] > len[last] + SPAWN_SPACING;
+    }
+
+    /** Adds a stopped vehicle at the spawn point if there is room; returns whether it was added. */
+    boolean trySpawn(double length, T tag) {
+        if (!canSpawn()) return false;
+        append(0, 0, length, tag);
+        return true;
+    }
+
+    /** Adds a vehicle at the back of the queue without checking spacing. */
+    void append(double s, double v, double length, T tag) {
+        if (count == pos.length) grow();
+        int i = (head + count++) & mask;
+        pos[i] = s;
+        vel[i] = v;
+        len[i] = length;
+        tags[i] = tag;
+    }
+
+    /**
+     * Sets the vehicle the front one follows: its rear at {@code rearS} in this lane's
+     * coordinates (beyond {@link #exitS}) and its speed. Pass infinity for an open road.
+     */
+    void setLeader(double rearS, double v) {
+        leaderRear = rearS;
+        leaderV = v;
+    }
+
+    /**
+     * Linked lanes feed another lane rather than an empty road. Their vehicles keep driving on red
+     * until they have to brake for the stop line, instead of stopping where they are, and keep
+     * their distance inside the box too, since a queue in the next lane can reach back into it.
+     */
+    void setLinked(boolean linked) { this.linked = linked; }
+
+    /** Position of the last vehicle's rear, or infinity when the lane is empty. */
+    double lastRear() {
+        if (count == 0) return Double.POSITIVE_INFINITY;
+        int last = (head + count - 1) & mask;
+        return pos[last] - len[last] * 0.5;
+    }
+
+    double lastSpeed() {
+        return count == 0 ? 0 : vel[(head + count - 1) & mask];
+    }
+
+    void clear() {
+        java.util.Arrays.fill(tags, null);
+        head = 0;
+        count = 0;
+    }
+
+    private void grow() {
+        int cap = pos.length * 2;
+        double[] p = new double[cap], v = new double[cap], l = new double[cap];
+        Object[] t = new Object[cap];
+        for (int k = 0; k < count; k++) {
+            int i = (head + k) & mask;
+            p[k] = pos[i]; v[k] = vel[i]; l[k] = len[i]; t[k] = tags[i];
+        }
+        pos = p; vel = v; len = l; tags = t;
+        head = 0;
+        mask = cap - 1;
+    }
+
+    /**
+     * Advances every vehicle by {@code dt} seconds under signal {@code light}, front to back,
+     * then drops the vehicles that have passed {@link #exitS}.
+     */
+    void update(double dt, TrafficLight.State light) {
+        update(dt, light, null);
+    }
+
+    /** As {@link #update(double, TrafficLight.State)}, handing the dropped vehicles to {@code sink}. */
+    void update(double dt, TrafficLight.State light, ExitSink<? super T> sink) {
+        boolean green = light == TrafficLight.State.GREEN;
+        boolean yellow = light == TrafficLight.State.YELLOW;
+        // Without a leader the front vehicle follows nobody: an infinite gap never limits its speed.
+        double aheadRear = leaderRear, aheadV = leaderV;
+        int exited = 0;
+
+        for (int k = 0; k < count; k++) {
+            int i = (head + k) & mask;
+            double s = pos[i], v = vel[i], half = len[i] * 0.5;
+            double front = s + half;
+
+            // Signal: go when green, already over the line, or too close to stop on yellow
+            double distToStop = stopS - front;
+            boolean committed = distToStop < 0;
+            double stoppingDistance = v * v / (2.0 * decel) + 10.0;
+            boolean go = committed | green | (yellow & distToStop <= stoppingDistance)
+                       | (linked & distToStop > stoppingDistance + v * dt);
+            double desired = go ? maxSpeed : 0;
+
+            // Following: tight spacing when stopping or behind a stopped car, speed-based otherwise
+            double gap = aheadRear - front;
+            double targetGap = (desired == 0 | aheadV < 5) ? 8 : Math.max(12, v * 0.4);
+            double limit = gap < 2 ? aheadV * 0.3
+                         : gap < targetGap ? aheadV
+                         : gap < targetGap * 2 ? maxSpeed * 0.7
+                         : maxSpeed;
+            // Linked lanes meet queues at full speed: brake early enough to stop behind them
+            boolean closing = linked & gap < (v * v - aheadV * aheadV) / (2.0 * decel) + targetGap + v * dt;
+            limit = closing ? Math.min(limit, aheadV) : limit;
+            desired = committed & !linked ? desired : Math.min(desired, limit);
+
+            v = v < desired ? Math.min(v + accel * dt, desired) : Math.max(v - decel * dt, desired);
+            s += v * dt;
+            pos[i] = s;
+            vel[i] = v;
+
+            // Exiting vehicles are always at the front; the next one follows whoever is left ahead.
+            boolean exits = s > exitS;
+            exited += exits ? 1 : 0;
+            aheadRear = exits ? aheadRear : s - half;
+            aheadV = exits ? aheadV : v;
+        }
+
+        for (; exited > 0; exited--) {
+            if (sink != null) sink.exited(pos[head] - exitS, vel[head], len[head], tag(0));
+            tags[head] = null;
+            head = (head + 1) & mask;
+            count--;
+        }
+    }
+}
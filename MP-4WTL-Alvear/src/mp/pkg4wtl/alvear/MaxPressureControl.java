@@ -0,0 +1,40 @@
+package mp.pkg4wtl.alvear;
+
+import java.util.List;
+
+/**
+ * Max-pressure control: after the minimum green, keep serving the phase whose approaches carry
+ * the most pressure and switch as soon as the other phase's is higher. An approach's pressure is
+ * its queue minus the queue of the lane it discharges into; the lanes of a single intersection
+ * discharge into open road, so here it is the queue itself. Queued vehicles count fully and
+ * moving ones still approaching count by {@code movingWeight}.
+ */
+final class MaxPressureControl implements SignalStrategy {
+
+    private final double minGreen, movingWeight;
+
+    MaxPressureControl(double minGreen, double movingWeight) {
+        this.minGreen = minGreen;
+        this.movingWeight = movingWeight;
+    }
+
+    private double pressure(List<Lane> approaches) {
+        double p = 0;
+        for (Lane lane : approaches) {
+            int queued = lane.queueLength();
+            p += queued + movingWeight * (lane.approaching() - queued);
+        }
+        return p;
+    }
+
+    @Override
+    public boolean endGreen(TrafficController c, int phase, double greenElapsed, double dt) {
+        return greenElapsed >= minGreen
+                && pressure(c.getApproaches(1 - phase)) > pressure(c.getApproaches(phase));
+    }
+
+    @Override
+    public String name() {
+        return String.format("max-pressure(min %.0fs)", minGreen);
+    }
+}
@@ -0,0 +1,133 @@
+package mp.pkg4wtl.alvear;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Headless comparison of signal strategies on the four-way intersection.
+ *
+ * Each strategy drives the same intersection through the same arrivals (same seed) for the
+ * given simulated time, as fast as the CPU allows, and the evaluator reports what it achieved.
+ * Usage:
+ * <pre>
+ *   java -cp build/classes mp.pkg4wtl.alvear.SignalEvaluator [options]
+ *     --minutes M     simulated minutes per strategy (default 60)
+ *     --seed S        random seed (default 1)
+ *     --ns R          arrivals per second on each north/south lane (default 0.6)
+ *     --ew R          arrivals per second on each east/west lane (default 0.25)
+ *     --green G       fixed green, and maximum green for the adaptive strategies (default 8)
+ *     --yellow Y      yellow (default 3)
+ * </pre>
+ * The lanes queue at the stop line ({@link Lane#useQueueing}), and arrivals that find no room
+ * at a lane's entry wait there rather than being turned away. Throughput counts vehicles
+ * crossing a stop line. Delay, per vehicle served, is the time lost to slowing before the stop
+ * line plus the time spent waiting at the entry. Queue is the number of vehicles waiting on all
+ * four approaches, averaged over every step; the backlog is what is still waiting at the
+ * entries when the run ends.
+ */
+public final class SignalEvaluator {
+
+    private SignalEvaluator() {}
+
+    /** What one run of one strategy achieved. */
+    static final class Result {
+        final String strategy;
+        final double seconds;
+        final long served, backlog;
+        final double totalDelay, meanQueue;
+        final int maxQueue;
+
+        Result(String strategy, double seconds, long served, long backlog, double totalDelay,
+               double meanQueue, int maxQueue) {
+            this.strategy = strategy;
+            this.seconds = seconds;
+            this.served = served;
+            this.backlog = backlog;
+            this.totalDelay = totalDelay;
+            this.meanQueue = meanQueue;
+            this.maxQueue = maxQueue;
+        }
+
+        double throughputPerHour() { return served * 3600 / seconds; }
+        double delayPerVehicle() { return served == 0 ? 0 : totalDelay / served; }
+    }
+
+    public static void main(String[] args) {
+        double minutes = 60, ns = 0.6, ew = 0.25;
+        int green = 8, yellow = 3;
+        long seed = 1;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--minutes": minutes = Double.parseDouble(args[++i]); break;
+                    case "--seed":    seed = Long.parseLong(args[++i]); break;
+                    case "--ns":      ns = Double.parseDouble(args[++i]); break;
+                    case "--ew":      ew = Double.parseDouble(args[++i]); break;
+                    case "--green":   green = Integer.parseInt(args[++i]); break;
+                    case "--yellow":  yellow = Integer.parseInt(args[++i]); break;
+                    default: throw new IllegalArgumentException("unknown argument " + args[i]);
+                }
+            }
+            if (minutes <= 0 || green <= 0 || yellow <= 0 || ns < 0 || ew < 0) {
+                throw new IllegalArgumentException("minutes, green and yellow must be positive, rates non-negative");
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            System.err.println("SignalEvaluator: " + ex.getMessage());
+            System.err.println("usage: SignalEvaluator [--minutes M] [--seed S] [--ns R] [--ew R] [--green G] [--yellow Y]");
+            System.exit(2);
+            return;
+        }
+
+        // lanes come in N->S, S->N, W->E, E->W order
+        double[] rates = {ns, ns, ew, ew};
+        List<String> strategies = List.of("fixed", "actuated", "max-pressure");
+
+        System.out.printf("%.0f simulated minutes, %.2f / %.2f arrivals/s per N-S / E-W lane, green %d s, yellow %d s, seed %d%n",
+                minutes, ns, ew, green, yellow, seed);
+        System.out.printf("%-28s %10s %12s %11s %10s %12s%n",
+                "strategy", "veh/h", "delay s/veh", "mean queue", "max queue", "backlog");
+        for (String strategy : strategies) {
+            Result r = evaluate(SignalStrategy.forName(strategy), green, yellow, rates, minutes * 60, seed);
+            System.out.printf("%-28s %10.0f %12.2f %11.2f %10d %12d%n", r.strategy,
+                    r.throughputPerHour(), r.delayPerVehicle(), r.meanQueue, r.maxQueue, r.backlog);
+        }
+    }
+
+    /**
+     * Runs the intersection under {@code strategy} (null for fixed time) for {@code seconds} of
+     * simulated time and returns its measurements.
+     */
+    static Result evaluate(SignalStrategy strategy, int green, int yellow, double[] rates, double seconds, long seed) {
+        List<Lane> lanes = IntersectionPanel.buildLanes(900, 900);
+        TrafficController controller = new TrafficController(green, yellow);
+        controller.setStrategy(strategy);
+        for (int i = 0; i < lanes.size(); i++) {
+            Lane lane = lanes.get(i);
+            lane.setController(controller);
+            lane.setSeed(seed * 31 + i);
+            lane.useQueueing();
+        }
+        SimulationScheduler sim = new SimulationScheduler(controller, lanes, rates, new Random(seed), () -> {}, null);
+        sim.setEntryBacklog(Integer.MAX_VALUE);
+
+        long steps = Math.round(seconds / SimulationScheduler.STEP);
+        long queueSum = 0;
+        int maxQueue = 0;
+        for (long n = 0; n < steps; n++) {
+            sim.step();
+            int queue = 0;
+            for (Lane lane : lanes) queue += lane.queueLength();
+            queueSum += queue;
+            maxQueue = Math.max(maxQueue, queue);
+        }
+
+        long served = 0;
+        double delay = sim.getEntryDelay();
+        for (Lane lane : lanes) {
+            served += lane.getDepartures();
+            delay += lane.getTotalDelay();
+        }
+        return new Result(strategy == null ? "fixed(" + green + "s/" + yellow + "s)" : strategy.name(),
+                sim.getTime(), served, sim.getWaiting(), delay, (double) queueSum / steps, maxQueue);
+    }
+}
@@ -0,0 +1,40 @@
+package mp.pkg4wtl.alvear;
+
+/**
+ * Decides, step by step, when a {@link TrafficController} green should end. The controller
+ * still times the yellow and the alternation between its two phases, and its green length
+ * becomes the maximum green: a strategy can only end a green early.
+ */
+interface SignalStrategy {
+
+    /**
+     * Called every step while {@code phase} shows green.
+     *
+     * @param greenElapsed seconds since the green began
+     * @param dt           length of the step just taken
+     * @return true to end the green now (the yellow follows)
+     */
+    boolean endGreen(TrafficController c, int phase, double greenElapsed, double dt);
+
+    String name();
+
+    /**
+     * A fresh strategy (they keep per-run state) by name: "fixed" (null, the controller's own
+     * cycle), "actuated" or "max-pressure", with the settings the evaluator compares.
+     */
+    static SignalStrategy forName(String name) {
+        switch (name) {
+            case "fixed":        return null;
+            case "actuated":     return new ActuatedControl(3, 1.5, 60);
+            case "max-pressure": return new MaxPressureControl(3, 0.25);
+            default: throw new IllegalArgumentException("unknown strategy " + name);
+        }
+    }
+
+    /** Vehicles not yet past the stop line on the approaches served by {@code phase}. */
+    static int demand(TrafficController c, int phase) {
+        int n = 0;
+        for (Lane lane : c.getApproaches(phase)) n += lane.approaching();
+        return n;
+    }
+}
@@ -0,0 +1,213 @@
+package mp.pkg4wtl.alvear;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+
+/**
+ * Headless batch runner for signal-timing sweeps.
+ *
+ * Every combination of the given strategies, green and yellow times, arrival rates and seeds is
+ * one scenario; each runs through {@link SignalEvaluator#evaluate} as fast as the CPU allows, and
+ * scenarios run in parallel on a worker pool. Every scenario builds its own lanes, controller and
+ * random streams, so results depend only on its parameters, never on the thread count. Usage:
+ * <pre>
+ *   java -cp build/classes mp.pkg4wtl.alvear.SignalSweep [options] out.csv
+ *     --strategies L  fixed, actuated and/or max-pressure (default fixed,actuated,max-pressure)
+ *     --green L       green (maximum green for the adaptive strategies) in seconds (default 8)
+ *     --yellow L      yellow in seconds (default 3)
+ *     --ns L          arrivals per second on each north/south lane (default 0.6)
+ *     --ew L          arrivals per second on each east/west lane (default 0.25)
+ *     --seeds L       random seeds (default 1)
+ *     --minutes M     simulated minutes per scenario (default 60)
+ *     --threads T     worker threads (default: available processors)
+ * </pre>
+ * A list {@code L} is comma separated, and each item is a value or an inclusive range
+ * {@code from:to[:step]} (step 1 by default), e.g. {@code --green 4:30:2 --seeds 1:20}.
+ * Rows are written in scenario order whatever order they finish in; "-" writes to stdout.
+ */
+public final class SignalSweep {
+
+    private SignalSweep() {}
+
+    /** One point of the sweep. */
+    static final class Scenario {
+        final int index;
+        final String strategy;
+        final int green, yellow;
+        final double ns, ew;
+        final long seed;
+
+        Scenario(int index, String strategy, int green, int yellow, double ns, double ew, long seed) {
+            this.index = index;
+            this.strategy = strategy;
+            this.green = green;
+            this.yellow = yellow;
+            this.ns = ns;
+            this.ew = ew;
+            this.seed = seed;
+        }
+    }
+
+    static final String HEADER = "scenario,strategy,green_s,yellow_s,ns_per_s,ew_per_s,seed,"
+            + "sim_s,served,veh_per_h,delay_s_per_veh,mean_queue,max_queue,backlog";
+
+    public static void main(String[] args) throws Exception {
+        List<String> strategies = List.of("fixed", "actuated", "max-pressure");
+        double[] greens = {8}, yellows = {3}, nss = {0.6}, ews = {0.25};
+        long[] seeds = {1};
+        double minutes = 60;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String output = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--strategies": strategies = List.of(args[++i].split(",")); break;
+                    case "--green":      greens = values(args[++i]); break;
+                    case "--yellow":     yellows = values(args[++i]); break;
+                    case "--ns":         nss = values(args[++i]); break;
+                    case "--ew":         ews = values(args[++i]); break;
+                    case "--seeds":      seeds = seedValues(args[++i]); break;
+                    case "--minutes":    minutes = Double.parseDouble(args[++i]); break;
+                    case "--threads":    threads = Integer.parseInt(args[++i]); break;
+                    default:
+                        if (args[i].startsWith("--") || output != null) throw new IllegalArgumentException("unknown argument " + args[i]);
+                        output = args[i];
+                }
+            }
+            if (output == null) throw new IllegalArgumentException("missing output file");
+            for (String s : strategies) SignalStrategy.forName(s);
+            requireWhole(greens, 1, "green");
+            requireWhole(yellows, 1, "yellow");
+            for (double r : nss) if (r < 0) throw new IllegalArgumentException("rates must be non-negative");
+            for (double r : ews) if (r < 0) throw new IllegalArgumentException("rates must be non-negative");
+            if (minutes <= 0 || threads <= 0) throw new IllegalArgumentException("minutes and threads must be positive");
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            System.err.println("SignalSweep: " + ex.getMessage());
+            System.err.println("usage: SignalSweep [--strategies L] [--green L] [--yellow L] [--ns L] [--ew L] [--seeds L]"
+                    + " [--minutes M] [--threads T] out.csv");
+            System.exit(2);
+            return;
+        }
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String s : strategies)
+            for (double g : greens)
+                for (double y : yellows)
+                    for (double ns : nss)
+                        for (double ew : ews)
+                            for (long seed : seeds)
+                                scenarios.add(new Scenario(scenarios.size(), s, (int) g, (int) y, ns, ew, seed));
+
+        long t0 = System.nanoTime();
+        try (PrintWriter out = new PrintWriter(new BufferedWriter("-".equals(output)
+                ? new OutputStreamWriter(System.out) : new FileWriter(output)))) {
+            run(scenarios, minutes * 60, threads, out);
+        }
+        double seconds = (System.nanoTime() - t0) / 1e9;
+        System.err.printf("Ran %d scenarios (%.0f simulated hours) in %.1f s on %d threads, %.0fx real time%n",
+                scenarios.size(), scenarios.size() * minutes / 60, seconds, threads,
+                scenarios.size() * minutes * 60 / seconds);
+    }
+
+    /**
+     * Runs every scenario for {@code seconds} of simulated time on {@code threads} workers and
+     * writes the header and one CSV row per scenario, in scenario order, to {@code out}.
+     */
+    static void run(List<Scenario> scenarios, double seconds, int threads, PrintWriter out)
+            throws InterruptedException, IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "SignalSweep worker");
+            t.setDaemon(true);
+            return t;
+        });
+        List<Future<SignalEvaluator.Result>> pending = new ArrayList<>(scenarios.size());
+        try {
+            for (Scenario sc : scenarios) {
+                pending.add(workers.submit(() -> SignalEvaluator.evaluate(SignalStrategy.forName(sc.strategy), sc.green, sc.yellow,
+                        new double[] {sc.ns, sc.ns, sc.ew, sc.ew}, seconds, sc.seed)));
+            }
+            out.println(HEADER);
+            for (int i = 0; i < scenarios.size(); i++) {
+                Scenario sc = scenarios.get(i);
+                SignalEvaluator.Result r = pending.get(i).get();
+                out.println(String.format(Locale.ROOT, "%d,%s,%d,%d,%s,%s,%d,%.0f,%d,%.1f,%.3f,%.3f,%d,%d",
+                        sc.index, sc.strategy, sc.green, sc.yellow, number(sc.ns), number(sc.ew), sc.seed,
+                        r.seconds, r.served, r.throughputPerHour(), r.delayPerVehicle(), r.meanQueue,
+                        r.maxQueue, r.backlog));
+                if (out.checkError()) throw new IOException("cannot write results");
+            }
+        } catch (ExecutionException ex) {
+            throw new IOException("scenario failed", ex.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /** Parses a comma separated list of values and inclusive {@code from:to[:step]} ranges. */
+    static double[] values(String spec) {
+        List<Double> list = new ArrayList<>();
+        for (String item : spec.split(",")) {
+            String[] p = item.split(":");
+            if (p.length == 1) {
+                list.add(Double.parseDouble(p[0]));
+                continue;
+            }
+            if (p.length > 3) throw new IllegalArgumentException("bad range " + item);
+            double from = Double.parseDouble(p[0]), to = Double.parseDouble(p[1]);
+            double step = p.length == 3 ? Double.parseDouble(p[2]) : 1;
+            if (step <= 0 || to < from) throw new IllegalArgumentException("bad range " + item);
+            // count the points up front so fractional steps do not drift past the end
+            long n = (long) Math.floor((to - from) / step + 1e-9);
+            for (long k = 0; k <= n; k++) list.add(from + k * step);
+        }
+        double[] v = new double[list.size()];
+        for (int i = 0; i < v.length; i++) v[i] = list.get(i);
+        return v;
+    }
+
+    /**
+     * Parses a comma separated list of seeds and inclusive {@code from:to[:step]} ranges as longs,
+     * so every seed, however large, reaches its scenario exactly.
+     */
+    static long[] seedValues(String spec) {
+        List<Long> list = new ArrayList<>();
+        for (String item : spec.split(",")) {
+            String[] p = item.split(":");
+            if (p.length == 1) {
+                list.add(Long.parseLong(p[0]));
+                continue;
+            }
+            if (p.length > 3) throw new IllegalArgumentException("bad range " + item);
+            long from = Long.parseLong(p[0]), to = Long.parseLong(p[1]);
+            long step = p.length == 3 ? Long.parseLong(p[2]) : 1;
+            if (step <= 0 || to < from) throw new IllegalArgumentException("bad range " + item);
+            // to - v is at most 2^64 - 1, so compare it unsigned to stay exact across the whole long range
+            for (long v = from; ; v += step) {
+                list.add(v);
+                if (Long.compareUnsigned(to - v, step) < 0) break;
+            }
+        }
+        long[] v = new long[list.size()];
+        for (int i = 0; i < v.length; i++) v[i] = list.get(i);
+        return v;
+    }
+
+    private static void requireWhole(double[] values, double min, String what) {
+        for (double v : values) {
+            if (v != Math.rint(v) || v < min) {
+                throw new IllegalArgumentException(what + " must be whole numbers of at least " + (long) min);
+            }
+        }
+    }
+
+    private static String number(double v) {
+        return v == Math.rint(v) ? Long.toString((long) v) : Double.toString(Math.round(v * 1e6) / 1e6);
+    }
+}
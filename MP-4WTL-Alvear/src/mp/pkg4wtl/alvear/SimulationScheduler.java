@@ -0,0 +1,182 @@
+package mp.pkg4wtl.alvear;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The single clock of an intersection: vehicle arrivals, signal phases and movement all advance
+ * together in fixed {@link #STEP} increments on one background thread.
+ *
+ * Arrivals on each lane form a Poisson process: the gap to the next arrival is drawn from an
+ * exponential distribution. A vehicle that finds no room at the spawn point waits at the entry if
+ * the lane's backlog allows (none by default), and is turned away otherwise.
+ * After each wake-up the scheduler copies the state into a {@link Snapshot} and publishes it
+ * through a lock-free triple buffer ({@link SnapshotBuffer}), then notifies the listener. The
+ * lanes themselves are only ever touched by the scheduler thread, and the painter only ever
+ * reads published snapshots, so neither waits for the other.
+ */
+final class SimulationScheduler implements Runnable {
+
+    static final double STEP = 0.04;
+    static final long STEP_NANOS = 40_000_000L;
+    // After a stall, catch up at most this many steps and then drop the backlog
+    static final int MAX_STEPS_PER_WAKE = 5;
+
+    private final TrafficController controller;
+    private final List<Lane> lanes;
+    private final double[] arrivalsPerSec;
+    private final Random rng;
+    private final double[] nextArrival;
+    private final int[] waiting;       // arrivals held at each lane's entry
+    private int maxWaiting;
+    private final SnapshotBuffer frames;
+    private final Runnable listener;
+    private final FrameStats frameStats;
+
+    private double time;
+    private long steps;
+    private long turnedAway;
+    private double entryDelay;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param arrivalsPerSec mean arrival rate on every lane
+     * @param listener       told on the scheduler thread that a new snapshot is available
+     * @param frameStats     timing sink for the update step, or null
+     */
+    SimulationScheduler(TrafficController controller, List<Lane> lanes, double arrivalsPerSec, Random rng,
+                        Runnable listener, FrameStats frameStats) {
+        this(controller, lanes, uniform(lanes.size(), arrivalsPerSec), rng, listener, frameStats);
+    }
+
+    /** As above, with a mean arrival rate per lane (in the order of {@code lanes}). */
+    SimulationScheduler(TrafficController controller, List<Lane> lanes, double[] arrivalsPerSec, Random rng,
+                        Runnable listener, FrameStats frameStats) {
+        if (arrivalsPerSec.length != lanes.size()) throw new IllegalArgumentException("one arrival rate per lane");
+        this.controller = controller;
+        this.lanes = lanes;
+        this.arrivalsPerSec = arrivalsPerSec.clone();
+        this.rng = rng;
+        this.listener = listener;
+        this.frameStats = frameStats;
+        frames = new SnapshotBuffer(lanes.size());
+        nextArrival = new double[lanes.size()];
+        waiting = new int[lanes.size()];
+        for (int i = 0; i < nextArrival.length; i++) nextArrival[i] = interArrival(i);
+    }
+
+    private static double[] uniform(int n, double rate) {
+        double[] rates = new double[n];
+        java.util.Arrays.fill(rates, rate);
+        return rates;
+    }
+
+    private double interArrival(int lane) {
+        return arrivalsPerSec[lane] > 0 ? -Math.log(1 - rng.nextDouble()) / arrivalsPerSec[lane] : Double.POSITIVE_INFINITY;
+    }
+
+    double getTime() { return time; }
+    long getSteps() { return steps; }
+    /** Arrivals that found no room at their lane's spawn point nor in its backlog. */
+    long getTurnedAway() { return turnedAway; }
+    /** Vehicle-seconds spent waiting at the entries. */
+    double getEntryDelay() { return entryDelay; }
+
+    /** Arrivals currently waiting at the entries. */
+    int getWaiting() {
+        int n = 0;
+        for (int w : waiting) n += w;
+        return n;
+    }
+
+    /** How many arrivals may wait at each lane's entry for room to spawn (0, the default, turns them away). */
+    void setEntryBacklog(int max) { this.maxWaiting = max; }
+
+    /** Advances arrivals, signals and vehicles by one {@link #STEP}. Call only from the scheduler thread, or while it is stopped. */
+    void step() {
+        controller.advance(STEP);
+        for (int i = 0; i < nextArrival.length; i++) {
+            Lane lane = lanes.get(i);
+            while (nextArrival[i] <= time) {
+                waiting[i]++;
+                nextArrival[i] += interArrival(i);
+            }
+            while (waiting[i] > 0 && lane.spawnCarIfSpace()) waiting[i]--;
+            if (waiting[i] > maxWaiting) {
+                turnedAway += waiting[i] - maxWaiting;
+                waiting[i] = maxWaiting;
+            }
+            entryDelay += waiting[i] * STEP;
+            lane.update(STEP);
+        }
+        time += STEP;
+        steps++;
+    }
+
+    /**
+     * Captures the current state into the free snapshot buffer, publishes it and tells the
+     * listener. Call only from the scheduler thread, or while it is stopped.
+     */
+    void publish() {
+        Snapshot back = frames.back();
+        back.step = steps;
+        back.time = time;
+        for (int i = 0; i < lanes.size(); i++) lanes.get(i).snapshot(back.lane(i));
+        frames.publish();
+        listener.run();
+    }
+
+    /**
+     * The newest published snapshot. Call from a single reader thread (the EDT); the snapshot
+     * returned stays unchanged until that thread calls again.
+     */
+    Snapshot latest() {
+        return frames.latest();
+    }
+
+    synchronized void start() {
+        if (thread != null) return;
+        running = true;
+        thread = new Thread(this, "IntersectionPanel simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Stops the clock and waits for the current step to finish. */
+    synchronized void stop() {
+        running = false;
+        if (thread == null) return;
+        if (thread != Thread.currentThread()) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    @Override
+    public void run() {
+        long next = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            if (now < next) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            for (int n = 0; n < MAX_STEPS_PER_WAKE && next <= now; n++) {
+                if (frameStats != null) frameStats.frameStart();
+                long t0 = System.nanoTime();
+                step();
+                if (frameStats != null) frameStats.recordUpdate(System.nanoTime() - t0);
+                next += STEP_NANOS;
+            }
+            if (next <= now) next = now + STEP_NANOS;
+            publish();
+        }
+    }
+}
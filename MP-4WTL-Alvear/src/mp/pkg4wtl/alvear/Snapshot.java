@@ -0,0 +1,59 @@
+package mp.pkg4wtl.alvear;
+
+/**
+ * The intersection, or the whole {@link CityGrid}, after one scheduler step. Snapshots are reused: the scheduler fills one that
+ * no reader holds, and once published it is not written again until the reader has moved on to a
+ * newer one (see {@link SnapshotBuffer}), so a reader sees it as immutable.
+ */
+final class Snapshot {
+
+    long step;
+    double time;
+    // city totals, filled in by CityGrid
+    int vehicles;
+    long entered, departed;
+    private final LaneView[] lanes;
+
+    Snapshot(int laneCount) {
+        lanes = new LaneView[laneCount];
+        for (int i = 0; i < laneCount; i++) lanes[i] = new LaneView();
+    }
+
+    int laneCount() { return lanes.length; }
+    LaneView lane(int i) { return lanes[i]; }
+
+    /** One lane: its light and, front to back, its vehicles with their positions at that step. */
+    static final class LaneView {
+        TrafficLight.State light;
+        int countdownSec;                   // or TrafficLight.NO_COUNTDOWN
+        private int size;
+        private Car[] cars = new Car[16];   // only their final fields (kind, color, size, heading) are read
+        private double[] x = new double[16], y = new double[16];
+
+        /** Starts refilling this view with {@code n} vehicles, growing the arrays if needed. */
+        void reset(TrafficLight.State light, int countdownSec, int n) {
+            this.light = light;
+            this.countdownSec = countdownSec;
+            if (n > cars.length) {
+                int cap = Math.max(n, cars.length * 2);
+                cars = new Car[cap];
+                x = new double[cap];
+                y = new double[cap];
+            } else if (n < size) {
+                java.util.Arrays.fill(cars, n, size, null); // let departed cars go
+            }
+            size = n;
+        }
+
+        void set(int k, Car car, double px, double py) {
+            cars[k] = car;
+            x[k] = px;
+            y[k] = py;
+        }
+
+        int size() { return size; }
+        Car car(int k) { return cars[k]; }
+        double x(int k) { return x[k]; }
+        double y(int k) { return y[k]; }
+    }
+}
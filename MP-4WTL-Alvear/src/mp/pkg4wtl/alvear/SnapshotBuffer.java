@@ -0,0 +1,40 @@
+package mp.pkg4wtl.alvear;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free handoff of snapshots from one writer to one reader. Of the three buffers the writer
+ * owns one (the back), the reader owns one (the front) and the third sits in the middle; both
+ * sides trade theirs for the middle one with a single atomic swap. The writer never waits and
+ * never overwrites what the reader holds, and the reader always gets the newest complete
+ * snapshot, skipping any it was too slow to see.
+ */
+final class SnapshotBuffer {
+
+    private static final int FRESH = 4; // set while the middle buffer has not been read
+
+    private final Snapshot[] buffers = new Snapshot[3];
+    private final AtomicInteger middle = new AtomicInteger(1); // index of the middle buffer | FRESH
+    private int back = 2;   // writer side
+    private int front = 0;  // reader side
+
+    SnapshotBuffer(int laneCount) {
+        for (int i = 0; i < buffers.length; i++) buffers[i] = new Snapshot(laneCount);
+    }
+
+    /** The buffer the writer may fill. */
+    Snapshot back() {
+        return buffers[back];
+    }
+
+    /** Publishes the back buffer and takes the middle one as the next back buffer. */
+    void publish() {
+        back = middle.getAndSet(back | FRESH) & 3;
+    }
+
+    /** Swaps in the newest published buffer, if there is one the reader has not seen, and returns it. */
+    Snapshot latest() {
+        if ((middle.get() & FRESH) != 0) front = middle.getAndSet(front) & 3;
+        return buffers[front];
+    }
+}
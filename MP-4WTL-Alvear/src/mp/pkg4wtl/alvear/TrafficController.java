@@ -0,0 +1,57 @@
+package mp.pkg4wtl.alvear;
+
+import java.util.*;
+
+/** Two-phase signal controller for one intersection: lanes 1 and 3 share a green, as do 2 and 4. */
+class TrafficController {
+
+    private final int greenSec, yellowSec;
+    private final int phaseLength;
+    private int phase = 0; // 0 => lanes 1&3 green; 1 => lanes 2&4 green
+    private double phaseTimeRemaining;
+    private final List<Runnable> listeners = new ArrayList<>();
+    private final List<List<Lane>> approaches = List.of(new ArrayList<>(), new ArrayList<>());
+    private SignalStrategy strategy; // null: fixed time, every green runs its full length
+
+    public TrafficController(int greenSec, int yellowSec) {
+        this.greenSec = greenSec;
+        this.yellowSec = yellowSec;
+        this.phaseLength = greenSec + yellowSec;
+        this.phaseTimeRemaining = phaseLength;
+    }
+
+    /**
+     * Moves the phase clock forward by {@code dt} seconds and notifies the lights. Whoever owns
+     * the simulation clock calls this every step.
+     */
+    public void advance(double dt) {
+        phaseTimeRemaining -= dt;
+        // An adaptive strategy may cut the green short; greenSec is then its maximum (max-out)
+        if (strategy != null && phaseTimeRemaining > yellowSec
+                && strategy.endGreen(this, phase, phaseLength - phaseTimeRemaining, dt)) {
+            phaseTimeRemaining = yellowSec;
+        }
+        while (phaseTimeRemaining <= 0) {
+            phase = 1 - phase;
+            phaseTimeRemaining += phaseLength;
+        }
+        notifyListeners();
+    }
+
+    public int getPhase() { return phase; }
+    public double getPhaseTimeRemaining() { return Math.max(0, phaseTimeRemaining); }
+    public int getGreenSec() { return greenSec; }
+    public int getYellowSec() { return yellowSec; }
+    public int getPhaseLength() { return phaseLength; }
+
+    /** Sets the strategy that decides when a green ends, or null for fixed-time control. */
+    public void setStrategy(SignalStrategy s) { this.strategy = s; }
+    public SignalStrategy getStrategy() { return strategy; }
+
+    /** Registers {@code lane} as an approach served by phase {@code group}. */
+    public void addApproach(int group, Lane lane) { approaches.get(group).add(lane); }
+    public List<Lane> getApproaches(int group) { return approaches.get(group); }
+
+    public void addListener(Runnable r) { listeners.add(r); }
+    private void notifyListeners() { for (Runnable r : listeners) r.run(); }
+}
@@ -0,0 +1,42 @@
+package mp.pkg4wtl.alvear;
+
+/** The light at the stop line of one lane, following its controller's phase. */
+class TrafficLight {
+
+    enum State { GREEN, YELLOW, RED }
+    /** {@link #getCountdownSec()} when the time to the next change is not known in advance. */
+    static final int NO_COUNTDOWN = -1;
+    private State state = State.RED;
+    private double countdown = 0.0;
+    private boolean countdownKnown = true;
+    private final int laneGroup; // 0 or 1
+    private final TrafficController ctrl;
+
+    public TrafficLight(int laneGroup, TrafficController ctrl) {
+        this.laneGroup = laneGroup;
+        this.ctrl = ctrl;
+        ctrl.addListener(this::updateFromController);
+        updateFromController();
+    }
+
+    private void updateFromController() {
+        int phase = ctrl.getPhase();
+        double t = ctrl.getPhaseTimeRemaining();
+        // An adaptive strategy may end any green early, so only the yellow has a known end
+        boolean adaptive = ctrl.getStrategy() != null;
+        if (phase == laneGroup) {
+            if (t > ctrl.getYellowSec()) { state = State.GREEN; countdown = t; countdownKnown = !adaptive; }
+            else { state = State.YELLOW; countdown = t; countdownKnown = true; }
+        } else {
+            state = State.RED;
+            countdown = t + ctrl.getPhaseLength();
+            countdownKnown = !adaptive;
+        }
+    }
+
+    public State getState() { return state; }
+    /** Whole seconds to the next change, or {@link #NO_COUNTDOWN} while an adaptive strategy decides it. */
+    public int getCountdownSec() { return countdownKnown ? (int) Math.ceil(countdown) : NO_COUNTDOWN; }
+    /** Seconds to the next change; under an adaptive strategy, for green and red this is the max-out bound. */
+    public double getCountdown() { return countdown; }
+}
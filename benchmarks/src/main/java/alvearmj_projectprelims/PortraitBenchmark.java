@@ -0,0 +1,48 @@
+package alvearmj_projectprelims;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Offscreen rendering of the prelims portrait scene into a {@link BufferedImage}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PortraitBenchmark {
+
+    /** Output width in pixels; the height keeps the canvas aspect ratio. */
+    @Param({"422", "1024", "2048"})
+    public int width;
+
+    private BufferedImage image;
+    private double scale;
+
+    @Setup
+    public void setup() {
+        scale = width / (double) AlvearMj_ProjectPrelims.BASE_W;
+        image = new BufferedImage(width, (int) Math.ceil(AlvearMj_ProjectPrelims.BASE_H * scale), BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Benchmark
+    public BufferedImage paintScene() {
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.scale(scale, scale);
+            AlvearMj_ProjectPrelims.paintScene(g, true, true);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage tiledRender() {
+        return TileRenderer.render(0, 0, image.getWidth(), image.getHeight(), scale, true, true, AlvearMj_ProjectPrelims.BACKGROUND);
+    }
+}
@@ -0,0 +1,60 @@
+package finalproject_alvear;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Offscreen painting of the animated castle scene and of its main character. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class FinalprojectBenchmark {
+
+    /** Panel width in pixels; the height keeps the 345x356 design aspect ratio. */
+    @Param({"345", "690", "1380"})
+    public int width;
+
+    private Finalproject_alvear panel;
+    private BufferedImage image;
+
+    @Setup
+    public void setup() {
+        // A fixed seed so every fork measures the same crowd, notes and dragon path.
+        panel = new Finalproject_alvear(false, new Random(1));
+        int height = width * 356 / 345;
+        panel.setSize(width, height);
+        image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        // Let people, notes and the dragon enter the scene before measuring.
+        for (int i = 0; i < 600; i++) panel.actionPerformed(null);
+    }
+
+    @Benchmark
+    public BufferedImage paintComponent() {
+        Graphics2D g = image.createGraphics();
+        try {
+            panel.paintComponent(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage drawCharacter() {
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.scale(width / 345.0 * 0.4, width / 345.0 * 0.4);   // as drawMainCharacterScaled
+            panel.drawCharacter(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
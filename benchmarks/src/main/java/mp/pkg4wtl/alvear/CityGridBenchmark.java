@@ -0,0 +1,36 @@
+package mp.pkg4wtl.alvear;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** One 40 ms {@link CityGrid} step after a minute of warm-up traffic, sequential and in parallel. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class CityGridBenchmark {
+
+    /** Intersections along each side of the square grid. */
+    @Param({"10", "40"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private CityGrid grid;
+
+    @Setup
+    public void setup() {
+        grid = new CityGrid(size, size, 8, 3, 2.5, 0.4, 1);
+        grid.setParallel(parallel);
+        for (int i = 0; i < 1500; i++) grid.step(0.04);
+    }
+
+    @Benchmark
+    public long step() {
+        grid.step(0.04);
+        return grid.getDeparted();
+    }
+}
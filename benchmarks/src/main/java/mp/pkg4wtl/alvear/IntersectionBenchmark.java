@@ -0,0 +1,73 @@
+package mp.pkg4wtl.alvear;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Painting the four-way intersection, publishing its snapshots and stepping its lanes, with the simulation scheduler stopped. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class IntersectionBenchmark {
+
+    /** Output edge in pixels; the 900x900 scene is scaled to fit. */
+    @Param({"450", "900", "1800"})
+    public int size;
+
+    private IntersectionPanel panel;
+    private List<Lane> lanes;
+    private BufferedImage image;
+
+    @Setup
+    public void setup() {
+        panel = new IntersectionPanel(900, 900);
+        panel.stop();
+        panel.setSize(900, 900);
+        lanes = panel.getLanes();
+        // Fixed seeds so every fork measures the same vehicle mix.
+        for (int i = 0; i < lanes.size(); i++) lanes.get(i).setSeed(i + 1);
+        image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        // Run traffic for a simulated minute so queues form on the red approaches.
+        for (int i = 0; i < 1500; i++) step();
+        panel.getScheduler().publish();
+    }
+
+    private void step() {
+        for (Lane lane : lanes) {
+            lane.update(0.04);
+            lane.spawnCarIfSpace();
+        }
+    }
+
+    @Benchmark
+    public BufferedImage paintComponent() {
+        Graphics2D g = image.createGraphics();
+        try {
+            g.scale(size / 900.0, size / 900.0);
+            panel.paintComponent(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /** Copying the lanes into the free snapshot buffer, publishing it and picking it up as the painter. */
+    @Benchmark
+    public Snapshot publishSnapshot() {
+        panel.getScheduler().publish();
+        return panel.getScheduler().latest();
+    }
+
+    /** One 40 ms animation tick for all four lanes, plus a spawn attempt to keep traffic steady. */
+    @Benchmark
+    public void laneUpdate(Blackhole bh) {
+        step();
+        bh.consume(lanes);
+    }
+}
@@ -0,0 +1,42 @@
+package mp.pkg4wtl.alvear;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** One 40 ms tick of a single very long {@link LaneCore} lane, cycling through its signal phases. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class LaneCoreBenchmark {
+
+    /** Vehicles queued on the lane at the start. */
+    @Param({"1000", "10000"})
+    public int vehicles;
+
+    private LaneCore<Void> core;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        // Long enough that the whole queue waits behind the stop line at 50 px per car.
+        double stopS = vehicles * 50.0;
+        core = new LaneCore<>(stopS, stopS + 400, 160, 280, 650, vehicles);
+        for (int k = 0; k < vehicles; k++) core.append(stopS - 25 - k * 50.0, 0, 42, null);
+        tick = 0;
+    }
+
+    /** 8 s green, 3 s yellow, 11 s red at 25 ticks per second; spawns refill the back of the queue. */
+    @Benchmark
+    public int update() {
+        int t = tick++ % 550;
+        TrafficLight.State light = t < 200 ? TrafficLight.State.GREEN
+                                 : t < 275 ? TrafficLight.State.YELLOW
+                                 : TrafficLight.State.RED;
+        core.update(0.04, light);
+        core.trySpawn(42, null);
+        return core.size();
+    }
+}
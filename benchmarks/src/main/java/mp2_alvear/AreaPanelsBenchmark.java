@@ -0,0 +1,54 @@
+package mp2_alvear;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JPanel;
+import org.openjdk.jmh.annotations.*;
+
+/** Offscreen painting of the constructive-area-geometry panels. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class AreaPanelsBenchmark {
+
+    @Param({"union", "intersection", "symmetric", "diff1", "diff2", "comparison"})
+    public String panelName;
+
+    /** Panel width in pixels; the height keeps the 800x600 design aspect ratio. */
+    @Param({"800", "1600"})
+    public int width;
+
+    private JPanel panel;
+    private BufferedImage image;
+
+    @Setup
+    public void setup() {
+        switch (panelName) {
+            case "union":        panel = new Mp2_alvear.UnionPanel(); break;
+            case "intersection": panel = new Mp2_alvear.IntersectionPanel(); break;
+            case "symmetric":    panel = new Mp2_alvear.SymmetricDifferencePanel(); break;
+            case "diff1":        panel = new Mp2_alvear.RelativeDifferenceCrossTreePanel(); break;
+            case "diff2":        panel = new Mp2_alvear.RelativeDifferenceTreeCrossPanel(); break;
+            case "comparison":   panel = new Mp2_alvear.ComparisonPanel(); break;
+            default: throw new IllegalArgumentException(panelName);
+        }
+        int height = width * 3 / 4;
+        panel.setSize(width, height);
+        image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        Graphics2D g = image.createGraphics();
+        try {
+            panel.paint(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
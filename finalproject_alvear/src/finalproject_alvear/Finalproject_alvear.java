@@ -3,18 +3,21 @@ package finalproject_alvear;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
 import java.awt.geom.*;
-import java.io.File;
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
 import java.util.Random;
-import javax.sound.sampled.*; 
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
 import javax.swing.*;
 
 public class Finalproject_alvear extends JPanel implements ActionListener {
 
     private Timer timer;
-    private Random random = new Random();
+    private final Random random;
 
     // --- MAIN CHARACTER VARIABLES ---
     private double characterX = 100;
@@ -25,10 +28,12 @@ public class Finalproject_alvear extends JPanel implements ActionListener {
     private double charVelocityY = 0;
     private double gravity = 1.5;
     private boolean isCharJumping = false;
+    private double prevCharacterX = characterX, prevCharacterY = characterY;
 
     // --- BIRD VARIABLES ---
     private double birdX = -50;
     private double birdY = 50;
+    private double prevBirdX = birdX;
     private boolean wingFlap = false;
     private int flapCounter = 0;
 
@@ -37,87 +42,265 @@ public class Finalproject_alvear extends JPanel implements ActionListener {
     private double dragonY = 80;
     private int dragonWingCounter = 0;
     private boolean dragonWingUp = false;
+    private double prevDragonX = dragonX;
 
-    // --- LISTS ---
-    private ArrayList<MusicNote> musicNotes;
-    private ArrayList<Person> people;
+    // --- PARTICLES ---
+    private Notes musicNotes;
+    private Crowd people;
+
+    // Festival mode packs the grass with walkers and fills the sky with notes
+    private int crowdLimit = 4;
+    private int crowdSpawnsPerTick = 1;
+    private double crowdSpawnChance = 0.01;
+    private int noteSpawnsPerTick = 1;
 
     // Original dimensions for responsive scaling
     private final int ORIGINAL_WIDTH = 345;
     private final int ORIGINAL_HEIGHT = 356;
 
+    // Scenery rendered once per panel size; only the sprites are drawn every frame
+    private BufferedImage backgroundCache;
+    private double backgroundScaleX, backgroundScaleY;
+
+    // Main character pre-rasterized for the current display scale
+    private CharacterAtlas characterAtlas;
+
+    // Frame timing; 'F' toggles the overlay, 'R' resets the histograms
+    private final FrameStats frameStats = new FrameStats("Finalproject_alvear", 30);
+
+    // Shapes, strokes and colors shared by every person and note
+    private static final BasicStroke STROKE_2 = new BasicStroke(2);
+    private static final BasicStroke STROKE_3 = new BasicStroke(3);
+    private static final Color SKIN = new Color(255, 220, 177);
+    private static final Color[] SHIRT_COLORS = new Color[32];
+    private static final Ellipse2D NOTE_HEAD = new Ellipse2D.Double(-6, 20, 10, 8);
+    private static final GeneralPath NOTE_OUTLINE = new GeneralPath();
+    private static final Color[] NOTE_COLORS = {Color.ORANGE, Color.YELLOW, Color.WHITE, new Color(255, 215, 0)};
+    private static final AlphaComposite[] NOTE_ALPHA = new AlphaComposite[256];
+    static {
+        Random shirts = new Random(345);
+        for (int i = 0; i < SHIRT_COLORS.length; i++) {
+            SHIRT_COLORS[i] = new Color(shirts.nextInt(255), shirts.nextInt(255), shirts.nextInt(255));
+        }
+        NOTE_OUTLINE.moveTo(0, 0); NOTE_OUTLINE.lineTo(0, 25);
+        NOTE_OUTLINE.append(NOTE_HEAD, false);
+        NOTE_OUTLINE.moveTo(0, 0); NOTE_OUTLINE.curveTo(0, 0, 8, 5, 8, 15);
+        for (int i = 0; i < NOTE_ALPHA.length; i++) {
+            NOTE_ALPHA[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, i / 255f);
+        }
+    }
+
+    // Dragon and bird poses, pre-stroked and flattened into polygons: drawing one is a single fill
+    private static final Color DRAGON_COLOR = new Color(139, 0, 0);
+    private static final Color DRAGON_WING_COLOR = new Color(100, 0, 0);
+    private static final Path2D.Float DRAGON_BODY;
+    private static final Path2D.Float[] DRAGON_WINGS = new Path2D.Float[2];  // [0] down, [1] up
+    private static final Path2D.Float[] BIRD_POSES = new Path2D.Float[2];    // [0] wings down, [1] flapping
+    static {
+        GeneralPath dragonBody = new GeneralPath();
+        dragonBody.moveTo(0, 0);
+        dragonBody.curveTo(10, -5, 30, 15, 50, 10);
+        dragonBody.curveTo(60, 5, 70, -10, 80, -5);
+        dragonBody.lineTo(85, 0);
+        DRAGON_BODY = strokedOutline(dragonBody, 6);
+        DRAGON_BODY.append(flatten(new Ellipse2D.Double(80, -5, 12, 8)), false);
+
+        for (int up = 0; up < 2; up++) {
+            GeneralPath wings = new GeneralPath();
+            wings.moveTo(40, 5); wings.lineTo(60, up == 1 ? -20 : 25); wings.lineTo(70, 5);
+            DRAGON_WINGS[up] = flatten(wings);
+        }
+
+        GeneralPath bird = new GeneralPath();
+        bird.moveTo(0, 5); bird.quadTo(10, 15, 20, 5); bird.quadTo(30, 15, 40, 5);
+        BIRD_POSES[0] = strokedOutline(bird, 3);
+        bird.reset();
+        bird.moveTo(0, 10); bird.quadTo(10, 0, 20, 10); bird.quadTo(30, 0, 40, 10);
+        BIRD_POSES[1] = strokedOutline(bird, 3);
+    }
+
+    /** The area a round-capped, round-joined stroke of {@code width} covers along {@code path}, flattened. */
+    private static Path2D.Float strokedOutline(Shape path, float width) {
+        return flatten(new BasicStroke(width, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND).createStrokedShape(path));
+    }
+
+    /** {@code shape} with its curves replaced by line segments within 0.01 units. */
+    private static Path2D.Float flatten(Shape shape) {
+        Path2D.Float flat = new Path2D.Float();
+        flat.append(shape.getPathIterator(null, 0.01), false);
+        return flat;
+    }
+
+    // Background track: a classpath resource next to this class, or -Dfinalproject.music=<resource or file>
+    private static final String MUSIC = System.getProperty("finalproject.music", "medieval_music.wav");
+    private MusicStream music;
+
     public Finalproject_alvear() {
+        this(true);
+    }
+
+    /**
+     * @param live start the background music and the animation timer; pass false for a
+     *             still scene that is only stepped and painted by the caller (offscreen use)
+     */
+    Finalproject_alvear(boolean live) {
+        this(live, new Random());
+    }
+
+    /**
+     * @param random source of every random choice in the simulation; a seeded one makes
+     *               the scene replay identically
+     */
+    Finalproject_alvear(boolean live, Random random) {
+        this.random = random;
         this.setPreferredSize(new Dimension(ORIGINAL_WIDTH * 2, ORIGINAL_HEIGHT * 2));
         
-        musicNotes = new ArrayList<>();
-        people = new ArrayList<>();
-
-        // Start Background Music
-        playMusic("C:/Users/rog/Documents/NetBeansProjects/finalproject_alvear/src/finalproject_alvear/medieval_music.wav"); 
+        musicNotes = new Notes(16);
+        people = new Crowd(8);
 
-        // Initialize and start the animation timer (30 FPS)
+        // Initialize the animation timer (30 FPS)
         timer = new Timer(30, this);
-        timer.start();
+
+        bindStatsKeys();
+
+        if (live) {
+            frameStats.registerMBean();
+
+            // Start Background Music
+            playMusic(MUSIC);
+            timer.start();
+        }
     }
 
-    public void playMusic(String filepath) {
-        try {
-            File musicPath = new File(filepath);
-            if (musicPath.exists()) {
-                AudioInputStream audioInput = AudioSystem.getAudioInputStream(musicPath);
-                Clip clip = AudioSystem.getClip();
-                clip.open(audioInput);
-                clip.start();
-                clip.loop(Clip.LOOP_CONTINUOUSLY);
-            } else {
-                System.out.println("Can't find file: " + filepath);
+    private void bindStatsKeys() {
+        InputMap input = getInputMap(WHEN_IN_FOCUSED_WINDOW);
+        ActionMap actions = getActionMap();
+        input.put(KeyStroke.getKeyStroke(KeyEvent.VK_F, 0), "toggleFrameStats");
+        input.put(KeyStroke.getKeyStroke(KeyEvent.VK_R, 0), "resetFrameStats");
+        actions.put("toggleFrameStats", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frameStats.setOverlayVisible(!frameStats.isOverlayVisible());
+                repaint();
             }
-        } catch (Exception ex) {
-            System.out.println("Error playing sound: " + ex.getMessage());
-        }
+        });
+        actions.put("resetFrameStats", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frameStats.reset();
+            }
+        });
+    }
+
+    /**
+     * Loops {@code source} (a classpath resource or a file path) in the background, streamed
+     * through a {@link MusicStream}, replacing any music already playing. Returns immediately.
+     */
+    public void playMusic(String source) {
+        if (music != null) music.stop();
+        music = MusicStream.start(source);
     }
 
     @Override
     protected void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
         super.paintComponent(g);
         Graphics2D g2 = (Graphics2D) g;
+        renderScene(g2, getWidth(), getHeight(), 1.0);
+        frameStats.recordPaint(System.nanoTime() - paintStart);
+        frameStats.drawOverlay(g2, 6, 6);
+    }
+
+    /**
+     * Draws the whole scene scaled to {@code width x height}, with the sprites at {@code t} of
+     * the way from their previous simulation step to the current one (1 draws the current state).
+     * The transform of {@code g2} is restored on return.
+     */
+    void renderScene(Graphics2D g2, int width, int height, double t) {
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        AffineTransform device = g2.getTransform();
 
         // --- RESPONSIVE SCALING ---
-        double scaleX = (double) getWidth() / ORIGINAL_WIDTH;
-        double scaleY = (double) getHeight() / ORIGINAL_HEIGHT;
+        double scaleX = (double) width / ORIGINAL_WIDTH;
+        double scaleY = (double) height / ORIGINAL_HEIGHT;
+
+        // 1. Draw Background (Sky, Hills, Castles, Floor) from the cached layer
+        g2.drawImage(cachedBackground(device.getScaleX() * scaleX, device.getScaleY() * scaleY),
+                0, 0, width, height, null);
+
         g2.scale(scaleX, scaleY);
         
-        // 1. Draw Background (Sky, Hills, Castles, Floor)
-        drawBackground(g2);
-        
         // 2. Draw Dragon (Behind people)
-        drawDragon(g2);
+        drawDragon(g2, t);
 
         // 3. Draw Background People (Walking on grass)
-        drawPeople(g2);
+        drawPeople(g2, t);
 
         // 4. Draw Bird
-        drawFlyingBird(g2);
+        drawFlyingBird(g2, t);
         
         // 5. Draw Main Character (Scaled Down)
-        drawMainCharacterScaled(g2);
+        drawMainCharacterScaled(g2, t);
 
         // 6. Draw Music Notes
-        drawMusicNotes(g2);
+        drawMusicNotes(g2, t);
+
+        g2.setTransform(device);
     }
     
     @Override
     public void actionPerformed(ActionEvent e) {
+        frameStats.frameStart();
+        long updateStart = System.nanoTime();
+        step();
+        frameStats.recordUpdate(System.nanoTime() - updateStart);
+        repaint();
+    }
+
+    // ================== UPDATE LOGIC ==================
+
+    /** Advances the scene by one 30 ms tick, keeping the previous positions for interpolation. */
+    void step() {
+        prevCharacterX = characterX;
+        prevCharacterY = characterY;
+        prevBirdX = birdX;
+        prevDragonX = dragonX;
+        people.savePrevious();
+        musicNotes.savePrevious();
+
         updateMainCharacter();
         updateBird();
         updateDragon();
         updatePeople();
         updateMusicNotes();
-        repaint();
     }
 
-    // ================== UPDATE LOGIC ==================
+    /**
+     * Copies everything {@link #renderScene} reads into {@code into}, so the copy can be
+     * rendered on another thread while this scene keeps stepping.
+     */
+    void copyRenderState(Finalproject_alvear into) {
+        into.characterX = characterX;
+        into.characterY = characterY;
+        into.prevCharacterX = prevCharacterX;
+        into.prevCharacterY = prevCharacterY;
+        into.characterDirection = characterDirection;
+        into.birdX = birdX;
+        into.birdY = birdY;
+        into.prevBirdX = prevBirdX;
+        into.wingFlap = wingFlap;
+        into.dragonX = dragonX;
+        into.dragonY = dragonY;
+        into.prevDragonX = prevDragonX;
+        into.dragonWingUp = dragonWingUp;
+        people.copyTo(into.people);
+        musicNotes.copyTo(into.musicNotes);
+    }
+
+    /** Value {@code t} of the way from {@code a} to {@code b}; exactly {@code b} at {@code t = 1}. */
+    private static double lerp(double a, double b, double t) {
+        return a * (1 - t) + b * t;
+    }
 
     private void updateMainCharacter() {
         // 1. Movement Logic
@@ -131,22 +314,10 @@ public class Finalproject_alvear extends JPanel implements ActionListener {
         }
 
         // 2. Dodging Logic (Jump over people)
-        if (!isCharJumping) {
-            for (Person p : people) {
-                double distance = p.x - characterX;
-
-                // Check direction: Is the person IN FRONT of us?
-                boolean personIsAhead = false;
-                if (characterDirection == 1 && distance > 0) personIsAhead = true;   // Moving Right, person is to the right
-                if (characterDirection == -1 && distance < 0) personIsAhead = true;  // Moving Left, person is to the left
-
-                // If person is ahead and close (within 70 pixels), JUMP!
-                if (personIsAhead && Math.abs(distance) < 70) {
-                    charVelocityY = -20; // Jump power (slightly higher to clear them)
-                    isCharJumping = true;
-                    break; // Stop checking, we are already jumping
-                }
-            }
+        // If a person is ahead of us (in our walking direction) and close (within 70 pixels), JUMP!
+        if (!isCharJumping && people.anyAhead(characterX, characterDirection, 70)) {
+            charVelocityY = -20; // Jump power (slightly higher to clear them)
+            isCharJumping = true;
         }
 
         // 3. Gravity Physics
@@ -167,6 +338,7 @@ public class Finalproject_alvear extends JPanel implements ActionListener {
         birdX += 2.5;
         if (birdX > ORIGINAL_WIDTH + 50) {
             birdX = -50;
+            prevBirdX = birdX; // wrap around without sweeping across the sky
         }
         flapCounter++;
         if (flapCounter % 10 == 0) wingFlap = !wingFlap;
@@ -176,7 +348,8 @@ public class Finalproject_alvear extends JPanel implements ActionListener {
         dragonX += 1.2;
         if (dragonX > ORIGINAL_WIDTH + 150) {
             dragonX = -150;
-            dragonY = 40 + Math.random() * 80;
+            prevDragonX = dragonX;
+            dragonY = 40 + random.nextDouble() * 80;
         }
         dragonWingCounter++;
         if (dragonWingCounter % 15 == 0) dragonWingUp = !dragonWingUp;
@@ -184,43 +357,64 @@ public class Finalproject_alvear extends JPanel implements ActionListener {
 
     private void updatePeople() {
         // Spawn new person randomly
-        if (people.size() < 4 && Math.random() < 0.01) {
-            people.add(new Person());
-        }
-
-        Iterator<Person> it = people.iterator();
-        while (it.hasNext()) {
-            Person p = it.next();
-            p.update();
-            // Remove if out of bounds
-            if (p.x > ORIGINAL_WIDTH + 50 || p.x < -50) {
-                it.remove();
+        for (int n = 0; n < crowdSpawnsPerTick; n++) {
+            if (people.count < crowdLimit && random.nextDouble() < crowdSpawnChance) {
+                people.spawn();
             }
         }
+        people.update();
     }
 
     private void updateMusicNotes() {
-        if (Math.random() < 0.05) { 
-            double headX = characterX + (characterDirection == 1 ? 20 : -20);
-            double headY = characterY - 90; 
-            musicNotes.add(new MusicNote(headX, headY));
-        }
-
-        Iterator<MusicNote> it = musicNotes.iterator();
-        while (it.hasNext()) {
-            MusicNote note = it.next();
-            note.update();
-            if (!note.isAlive()) {
-                it.remove();
+        for (int n = 0; n < noteSpawnsPerTick; n++) {
+            if (random.nextDouble() < 0.05) {
+                if (n == 0 || people.count == 0) {
+                    double headX = characterX + (characterDirection == 1 ? 20 : -20);
+                    double headY = characterY - 90;
+                    musicNotes.spawn(headX, headY);
+                } else {
+                    // The festival crowd sings along
+                    int p = (int) (random.nextDouble() * people.count);
+                    musicNotes.spawn(people.x[p], people.y[p] - 8);
+                }
             }
         }
+        musicNotes.update();
+    }
+
+    /**
+     * Festival mode lets thousands of people walk the grass and has them sing along, which is
+     * what the structure-of-arrays particles are sized for.
+     */
+    void setFestivalMode(boolean festival) {
+        setCrowdSize(festival ? 3000 : 4);
+        noteSpawnsPerTick = festival ? 300 : 1;
+    }
+
+    /** Lets up to {@code walkers} people onto the grass, spawning fast enough to keep it full (the scene normally has 4). */
+    void setCrowdSize(int walkers) {
+        crowdLimit = walkers;
+        crowdSpawnsPerTick = Math.max(1, walkers / 150);
+        crowdSpawnChance = walkers > 4 ? 0.8 : 0.01;
     }
 
     // ================== DRAWING HELPERS ==================
 
-    private void drawMainCharacterScaled(Graphics2D g2) {
+    private void drawMainCharacterScaled(Graphics2D g2, double t) {
         AffineTransform oldTransform = g2.getTransform();
-        
+        double characterX = lerp(prevCharacterX, this.characterX, t);
+        double characterY = lerp(prevCharacterY, this.characterY, t);
+
+        // Axis-aligned scaling (the normal case): blit the pre-rasterized sprite
+        if ((oldTransform.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) == 0
+                && oldTransform.getScaleX() > 0 && oldTransform.getScaleY() > 0) {
+            if (characterAtlas == null || !characterAtlas.matches(oldTransform.getScaleX(), oldTransform.getScaleY())) {
+                characterAtlas = new CharacterAtlas(oldTransform.getScaleX(), oldTransform.getScaleY());
+            }
+            characterAtlas.draw(g2, characterX, characterY, characterDirection);
+            return;
+        }
+
         g2.translate(characterX, characterY);
         g2.scale(0.4, 0.4);
         g2.translate(-175, -330); // Offset to center feet at 0,0
@@ -236,35 +430,17 @@ public class Finalproject_alvear extends JPanel implements ActionListener {
         g2.setTransform(oldTransform);
     }
 
-    private void drawPeople(Graphics2D g2) {
-        for (Person p : people) {
-            p.draw(g2);
-        }
+    private void drawPeople(Graphics2D g2, double t) {
+        people.draw(g2, t);
     }
 
-    private void drawDragon(Graphics2D g2) {
+    private void drawDragon(Graphics2D g2, double t) {
         AffineTransform old = g2.getTransform();
-        g2.translate(dragonX, dragonY);
-        g2.setColor(new Color(139, 0, 0)); 
-        
-        GeneralPath dragonBody = new GeneralPath();
-        dragonBody.moveTo(0, 0);
-        dragonBody.curveTo(10, -5, 30, 15, 50, 10);
-        dragonBody.curveTo(60, 5, 70, -10, 80, -5);
-        dragonBody.lineTo(85, 0);
-        
-        g2.setStroke(new BasicStroke(6, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-        g2.draw(dragonBody);
-        g2.fill(new Ellipse2D.Double(80, -5, 12, 8)); 
-        
-        GeneralPath wings = new GeneralPath();
-        g2.setColor(new Color(100, 0, 0));
-        if (dragonWingUp) {
-            wings.moveTo(40, 5); wings.lineTo(60, -20); wings.lineTo(70, 5);
-        } else {
-            wings.moveTo(40, 5); wings.lineTo(60, 25); wings.lineTo(70, 5);
-        }
-        g2.fill(wings);
+        g2.translate(lerp(prevDragonX, dragonX, t), dragonY);
+        g2.setColor(DRAGON_COLOR);
+        g2.fill(DRAGON_BODY);
+        g2.setColor(DRAGON_WING_COLOR);
+        g2.fill(DRAGON_WINGS[dragonWingUp ? 1 : 0]);
         g2.setTransform(old);
     }
 
@@ -290,27 +466,42 @@ public class Finalproject_alvear extends JPanel implements ActionListener {
         g2.fillRect(x + 15, y + 15, 10, 15);
     }
 
-    private void drawMusicNotes(Graphics2D g2) {
-        for (MusicNote note : musicNotes) {
-            note.draw(g2);
-        }
+    private void drawMusicNotes(Graphics2D g2, double t) {
+        musicNotes.draw(g2, t);
     }
     
-    private void drawFlyingBird(Graphics2D g2) {
+    private void drawFlyingBird(Graphics2D g2, double t) {
         AffineTransform old = g2.getTransform();
-        g2.translate(birdX, birdY);
+        g2.translate(lerp(prevBirdX, birdX, t), birdY);
         g2.setColor(Color.BLACK);
-        GeneralPath bird = new GeneralPath();
-        if (wingFlap) { 
-            bird.moveTo(0, 10); bird.quadTo(10, 0, 20, 10); bird.quadTo(30, 0, 40, 10);
-        } else { 
-            bird.moveTo(0, 5); bird.quadTo(10, 15, 20, 5); bird.quadTo(30, 15, 40, 5);
-        }
-        g2.setStroke(new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-        g2.draw(bird);
+        g2.fill(BIRD_POSES[wingFlap ? 1 : 0]);
         g2.setTransform(old);
     }
     
+    /**
+     * Returns the background rendered at {@code sx} x {@code sy} device pixels per design unit,
+     * re-rendering it only when the panel size (or the screen's scale) has changed.
+     */
+    private BufferedImage cachedBackground(double sx, double sy) {
+        if (backgroundCache == null || sx != backgroundScaleX || sy != backgroundScaleY) {
+            int w = Math.max(1, (int) Math.round(ORIGINAL_WIDTH * sx));
+            int h = Math.max(1, (int) Math.round(ORIGINAL_HEIGHT * sy));
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            BufferedImage img = gc != null
+                    ? gc.createCompatibleImage(w, h, Transparency.OPAQUE)
+                    : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D bg = img.createGraphics();
+            bg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            bg.scale(sx, sy);
+            drawBackground(bg);
+            bg.dispose();
+            backgroundCache = img;
+            backgroundScaleX = sx;
+            backgroundScaleY = sy;
+        }
+        return backgroundCache;
+    }
+
     private void drawBackground(Graphics2D g2) {
         GradientPaint sky = new GradientPaint(0, 0, new Color(70, 130, 180), 0, 300, new Color(135, 206, 235));
         g2.setPaint(sky);
@@ -350,103 +541,507 @@ public class Finalproject_alvear extends JPanel implements ActionListener {
         g2.draw(banner);
     }
     
-    // --- INNER CLASS: BACKGROUND PERSON ---
-    class Person {
-        double x, y, startY;
-        double speed;
-        Color shirtColor;
-        boolean jumping = false;
-        double velY = 0;
-
-        public Person() {
+    // ================== GAME LOOP MODE ==================
+
+    /**
+     * Active-rendering alternative to the Swing timer. A dedicated thread steps the simulation
+     * at a fixed 30 ms, however late it runs, and renders into the canvas's BufferStrategy between
+     * steps with the sprites interpolated, so motion speed no longer depends on the frame rate.
+     */
+    class GameLoop implements Runnable {
+        static final long STEP_NANOS = 30_000_000L;
+        // Past this many catch-up steps per frame the loop drops time rather than spiralling
+        static final int MAX_STEPS_PER_FRAME = 8;
+
+        private final Canvas canvas;
+        private final boolean vsync;
+        private volatile boolean running = true;
+
+        /**
+         * @param vsync pace frames to the display refresh rate; otherwise render uncapped
+         */
+        GameLoop(Canvas canvas, boolean vsync) {
+            this.canvas = canvas;
+            this.vsync = vsync;
+        }
+
+        void stop() {
+            running = false;
+        }
+
+        @Override
+        public void run() {
+            canvas.createBufferStrategy(2);
+            BufferStrategy strategy = canvas.getBufferStrategy();
+            long frameNanos = vsync ? 1_000_000_000L / refreshRate() : 0;
+
+            long previous = System.nanoTime();
+            long lag = 0;
+            while (running) {
+                long frameStart = System.nanoTime();
+                lag += frameStart - previous;
+                previous = frameStart;
+
+                frameStats.frameStart();
+                int steps = 0;
+                while (lag >= STEP_NANOS && steps < MAX_STEPS_PER_FRAME) {
+                    step();
+                    lag -= STEP_NANOS;
+                    steps++;
+                }
+                if (lag >= STEP_NANOS) lag = 0;
+
+                long paintStart = System.nanoTime();
+                frameStats.recordUpdate(paintStart - frameStart);
+                double t = (double) lag / STEP_NANOS;
+                do {
+                    do {
+                        Graphics2D g2 = (Graphics2D) strategy.getDrawGraphics();
+                        try {
+                            renderScene(g2, canvas.getWidth(), canvas.getHeight(), t);
+                            frameStats.drawOverlay(g2, 6, 6);
+                        } finally {
+                            g2.dispose();
+                        }
+                    } while (strategy.contentsRestored());
+                    strategy.show();
+                } while (strategy.contentsLost());
+                Toolkit.getDefaultToolkit().sync();
+                frameStats.recordPaint(System.nanoTime() - paintStart);
+
+                if (vsync) {
+                    long wait = frameStart + frameNanos - System.nanoTime();
+                    if (wait > 0) LockSupport.parkNanos(wait);
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+
+        private int refreshRate() {
+            GraphicsConfiguration gc = canvas.getGraphicsConfiguration();
+            int hz = gc != null ? gc.getDevice().getDisplayMode().getRefreshRate() : DisplayMode.REFRESH_RATE_UNKNOWN;
+            return hz > 0 ? hz : 60;
+        }
+    }
+
+    /** Opens the scene in a window driven by a {@link GameLoop} instead of the Swing timer. */
+    static void startGameLoop(boolean vsync, boolean festival, int walkers) {
+        Finalproject_alvear scene = new Finalproject_alvear(false);
+        scene.setFestivalMode(festival);
+        if (walkers > 0) scene.setCrowdSize(walkers);
+
+        JFrame frame = new JFrame("Final Project Alvear - Animated");
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setIgnoreRepaint(true);
+        Canvas canvas = new Canvas();
+        canvas.setIgnoreRepaint(true);
+        canvas.setPreferredSize(scene.getPreferredSize());
+        canvas.addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (e.getKeyCode() == KeyEvent.VK_F) {
+                    scene.frameStats.setOverlayVisible(!scene.frameStats.isOverlayVisible());
+                } else if (e.getKeyCode() == KeyEvent.VK_R) {
+                    scene.frameStats.reset();
+                }
+            }
+        });
+        frame.add(canvas);
+        frame.pack();
+        frame.setMinimumSize(new Dimension(400, 350));
+        frame.setLocationRelativeTo(null);
+        frame.setVisible(true);
+        canvas.requestFocus();
+
+        scene.frameStats.registerMBean();
+        scene.playMusic(MUSIC);
+        Thread thread = new Thread(scene.new GameLoop(canvas, vsync), "Finalproject game loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // --- PARTICLES: BACKGROUND PEOPLE ---
+    /**
+     * The walkers on the grass as a structure of arrays. Slots {@code [0, count)} are live; a
+     * walker leaving the scene is overwritten by the last one, and the arrays only grow, so a
+     * steady crowd allocates nothing per tick or per frame.
+     *
+     * Large crowds are updated in parallel chunks, each with its own {@link SplittableRandom},
+     * and after every update the walkers are counting-sorted into buckets along x so proximity
+     * queries only look at the buckets in range.
+     */
+    class Crowd {
+        static final int CHUNK = 2048;
+        static final double BUCKET_W = 10, BUCKET_MIN_X = -60;
+
+        int count;
+        double[] x, y, startY, speed, velY;
+        double[] prevX, prevY;
+        boolean[] jumping;
+        byte[] shirt; // index into SHIRT_COLORS
+
+        // order[bucketStart[b] .. bucketStart[b + 1]) are the walkers in x bucket b
+        private final int buckets = (int) Math.ceil((ORIGINAL_WIDTH - 2 * BUCKET_MIN_X) / BUCKET_W);
+        private final int[] bucketStart = new int[buckets + 1];
+        private int[] order;
+
+        private final SplittableRandom seed = new SplittableRandom(random.nextLong());
+        private SplittableRandom[] chunkRandom = new SplittableRandom[0];
+
+        // Scratch for drawing: interpolated positions, walkers grouped by shirt, one batched outline
+        private double[] drawX, drawY;
+        private int[] byShirt;
+        private final int[] shirtStart = new int[SHIRT_COLORS.length + 1];
+        private final Path2D.Float batch = new Path2D.Float(Path2D.WIND_NON_ZERO, 1024);
+
+        Crowd(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            x = grow(x, capacity); y = grow(y, capacity); startY = grow(startY, capacity);
+            speed = grow(speed, capacity); velY = grow(velY, capacity);
+            prevX = grow(prevX, capacity); prevY = grow(prevY, capacity);
+            jumping = jumping == null ? new boolean[capacity] : java.util.Arrays.copyOf(jumping, capacity);
+            shirt = shirt == null ? new byte[capacity] : java.util.Arrays.copyOf(shirt, capacity);
+            order = new int[capacity];
+            byShirt = new int[capacity];
+            drawX = new double[capacity];
+            drawY = new double[capacity];
+        }
+
+        void spawn() {
+            if (count == x.length) allocate(count * 2);
+            int i = count++;
             if (random.nextBoolean()) {
-                x = -20;
-                speed = 1.5 + random.nextDouble(); // Slightly faster people
+                x[i] = -20;
+                speed[i] = 1.5 + random.nextDouble(); // Slightly faster people
             } else {
-                x = ORIGINAL_WIDTH + 20;
-                speed = -(1.5 + random.nextDouble());
+                x[i] = ORIGINAL_WIDTH + 20;
+                speed[i] = -(1.5 + random.nextDouble());
             }
-            startY = 250 + random.nextInt(30); // Keep them closer to ground level
-            y = startY;
-            shirtColor = new Color(random.nextInt(255), random.nextInt(255), random.nextInt(255));
+            startY[i] = 250 + random.nextInt(30); // Keep them closer to ground level
+            y[i] = startY[i];
+            velY[i] = 0;
+            jumping[i] = false;
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            shirt[i] = (byte) random.nextInt(SHIRT_COLORS.length);
+        }
+
+        void savePrevious() {
+            System.arraycopy(x, 0, prevX, 0, count);
+            System.arraycopy(y, 0, prevY, 0, count);
         }
 
-        public void update() {
-            x += speed;
-            if (!jumping && random.nextDouble() < 0.01) { // Occasional hop
-                jumping = true;
-                velY = -5;
+        /** Copies the drawn state (positions and shirts) of every walker into {@code dst}. */
+        void copyTo(Crowd dst) {
+            if (dst.x.length < count) dst.allocate(x.length);
+            System.arraycopy(x, 0, dst.x, 0, count);
+            System.arraycopy(y, 0, dst.y, 0, count);
+            System.arraycopy(prevX, 0, dst.prevX, 0, count);
+            System.arraycopy(prevY, 0, dst.prevY, 0, count);
+            System.arraycopy(shirt, 0, dst.shirt, 0, count);
+            dst.count = count;
+        }
+
+        void update() {
+            int chunks = (count + CHUNK - 1) / CHUNK;
+            if (chunkRandom.length < chunks) {
+                int have = chunkRandom.length;
+                chunkRandom = java.util.Arrays.copyOf(chunkRandom, chunks);
+                for (int c = have; c < chunks; c++) chunkRandom[c] = seed.split();
+            }
+            if (chunks > 1) {
+                IntStream.range(0, chunks).parallel().forEach(this::updateChunk);
+            } else if (chunks == 1) {
+                updateChunk(0);
             }
-            if (jumping) {
-                y += velY;
-                velY += 0.5;
-                if (y >= startY) {
-                    y = startY;
-                    jumping = false;
+
+            // Remove if out of bounds
+            for (int i = 0; i < count; i++) {
+                if (x[i] > ORIGINAL_WIDTH + 50 || x[i] < -50) {
+                    remove(i--);
                 }
             }
+            reindex();
         }
 
-        public void draw(Graphics2D g2) {
-            AffineTransform old = g2.getTransform();
-            g2.translate(x, y);
-            g2.setColor(Color.BLACK); 
-            g2.setStroke(new BasicStroke(2));
-            if (Math.abs(x % 20) < 10) {
-                g2.drawLine(0, 15, -3, 25);
-                g2.drawLine(0, 15, 3, 25);
-            } else {
-                g2.drawLine(0, 15, 0, 25);
+        private void updateChunk(int chunk) {
+            SplittableRandom rnd = chunkRandom[chunk];
+            int end = Math.min(count, (chunk + 1) * CHUNK);
+            for (int i = chunk * CHUNK; i < end; i++) {
+                x[i] += speed[i];
+                if (!jumping[i] && rnd.nextDouble() < 0.01) { // Occasional hop
+                    jumping[i] = true;
+                    velY[i] = -5;
+                }
+                if (jumping[i]) {
+                    y[i] += velY[i];
+                    velY[i] += 0.5;
+                    if (y[i] >= startY[i]) {
+                        y[i] = startY[i];
+                        jumping[i] = false;
+                    }
+                }
             }
-            g2.setColor(shirtColor); 
-            g2.fill(new Rectangle2D.Double(-4, 5, 8, 12));
-            g2.setColor(new Color(255, 220, 177)); 
-            g2.fill(new Ellipse2D.Double(-4, -4, 8, 8));
-            g2.setTransform(old);
         }
+
+        /** Swap-remove: the last walker takes slot {@code i}. */
+        void remove(int i) {
+            int last = --count;
+            x[i] = x[last]; y[i] = y[last]; startY[i] = startY[last];
+            speed[i] = speed[last]; velY[i] = velY[last];
+            prevX[i] = prevX[last]; prevY[i] = prevY[last];
+            jumping[i] = jumping[last];
+            shirt[i] = shirt[last];
+        }
+
+        private int bucket(double px) {
+            return Math.max(0, Math.min(buckets - 1, (int) ((px - BUCKET_MIN_X) / BUCKET_W)));
+        }
+
+        /** Counting sort of the walkers into x buckets. */
+        private void reindex() {
+            java.util.Arrays.fill(bucketStart, 0);
+            for (int i = 0; i < count; i++) bucketStart[bucket(x[i]) + 1]++;
+            for (int b = 0; b < buckets; b++) bucketStart[b + 1] += bucketStart[b];
+            for (int i = 0; i < count; i++) order[--bucketStart[bucket(x[i]) + 1]] = i;
+            // The decrements above left bucketStart[b + 1] at the start of bucket b; shift back.
+            System.arraycopy(bucketStart, 1, bucketStart, 0, buckets);
+            bucketStart[buckets] = count;
+        }
+
+        /** Whether a walker is strictly ahead of {@code fromX} in {@code direction} and closer than {@code range}. */
+        boolean anyAhead(double fromX, int direction, double range) {
+            int b0 = bucket(direction == 1 ? fromX : fromX - range);
+            int b1 = bucket(direction == 1 ? fromX + range : fromX);
+            for (int k = bucketStart[b0]; k < bucketStart[b1 + 1]; k++) {
+                double distance = x[order[k]] - fromX;
+                if (distance * direction > 0 && Math.abs(distance) < range) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Draws the crowd in three batched passes, legs, then shirts one color at a time, then
+         * heads, each as a single path, instead of a handful of small shapes per walker.
+         */
+        void draw(Graphics2D g2, double t) {
+            if (count == 0) return;
+            java.util.Arrays.fill(shirtStart, 0);
+            for (int i = 0; i < count; i++) {
+                drawX[i] = lerp(prevX[i], x[i], t);
+                drawY[i] = lerp(prevY[i], y[i], t);
+                shirtStart[shirt[i] + 1]++;
+            }
+            for (int c = 0; c < SHIRT_COLORS.length; c++) shirtStart[c + 1] += shirtStart[c];
+            for (int i = 0; i < count; i++) byShirt[shirtStart[shirt[i]]++] = i;
+            // shirtStart[c] now marks the end of color c
+
+            batch.reset();
+            for (int i = 0; i < count; i++) {
+                float px = (float) drawX[i], py = (float) drawY[i];
+                if (Math.abs(drawX[i] % 20) < 10) {
+                    batch.moveTo(px, py + 15); batch.lineTo(px - 3, py + 25);
+                    batch.moveTo(px, py + 15); batch.lineTo(px + 3, py + 25);
+                } else {
+                    batch.moveTo(px, py + 15); batch.lineTo(px, py + 25);
+                }
+            }
+            g2.setColor(Color.BLACK);
+            g2.setStroke(STROKE_2);
+            g2.draw(batch);
+
+            for (int c = 0, k = 0; c < SHIRT_COLORS.length; c++) {
+                if (k == shirtStart[c]) continue;
+                batch.reset();
+                for (; k < shirtStart[c]; k++) {
+                    int i = byShirt[k];
+                    float px = (float) drawX[i], py = (float) drawY[i];
+                    batch.moveTo(px - 4, py + 5); batch.lineTo(px + 4, py + 5);
+                    batch.lineTo(px + 4, py + 17); batch.lineTo(px - 4, py + 17);
+                    batch.closePath();
+                }
+                g2.setColor(SHIRT_COLORS[c]);
+                g2.fill(batch);
+            }
+
+            batch.reset();
+            for (int i = 0; i < count; i++) appendCircle(batch, (float) drawX[i], (float) drawY[i], 4);
+            g2.setColor(SKIN);
+            g2.fill(batch);
+        }
+    }
+
+    /** Appends a circle made of four cubic arcs, like the path of an {@link Ellipse2D}. */
+    private static void appendCircle(Path2D.Float path, float cx, float cy, float r) {
+        float k = r * 0.5522848f;
+        path.moveTo(cx + r, cy);
+        path.curveTo(cx + r, cy + k, cx + k, cy + r, cx, cy + r);
+        path.curveTo(cx - k, cy + r, cx - r, cy + k, cx - r, cy);
+        path.curveTo(cx - r, cy - k, cx - k, cy - r, cx, cy - r);
+        path.curveTo(cx + k, cy - r, cx + r, cy - k, cx + r, cy);
+        path.closePath();
     }
 
-    // --- INNER CLASS: MUSIC NOTE ---
-    class MusicNote {
-        double x, y;
-        double scale = 0.5;
-        float alpha = 1.0f;
-        Color color;
-
-        public MusicNote(double startX, double startY) {
-            this.x = startX;
-            this.y = startY;
-            Color[] colors = {Color.ORANGE, Color.YELLOW, Color.WHITE, new Color(255, 215, 0)};
-            this.color = colors[(int)(Math.random() * colors.length)];
+    // --- PARTICLES: MUSIC NOTES ---
+    /** Floating notes as a structure of arrays, managed like {@link Crowd}. */
+    class Notes {
+        int count;
+        double[] x, y, scale;
+        double[] prevY, prevScale;
+        float[] alpha, prevAlpha;
+        byte[] color; // index into NOTE_COLORS
+
+        Notes(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            x = grow(x, capacity); y = grow(y, capacity); scale = grow(scale, capacity);
+            prevY = grow(prevY, capacity); prevScale = grow(prevScale, capacity);
+            alpha = alpha == null ? new float[capacity] : java.util.Arrays.copyOf(alpha, capacity);
+            prevAlpha = prevAlpha == null ? new float[capacity] : java.util.Arrays.copyOf(prevAlpha, capacity);
+            color = color == null ? new byte[capacity] : java.util.Arrays.copyOf(color, capacity);
+        }
+
+        void spawn(double startX, double startY) {
+            if (count == x.length) allocate(count * 2);
+            int i = count++;
+            x[i] = startX;
+            y[i] = prevY[i] = startY;
+            scale[i] = prevScale[i] = 0.5;
+            alpha[i] = prevAlpha[i] = 1.0f;
+            color[i] = (byte) (random.nextDouble() * NOTE_COLORS.length);
+        }
+
+        void savePrevious() {
+            System.arraycopy(y, 0, prevY, 0, count);
+            System.arraycopy(scale, 0, prevScale, 0, count);
+            System.arraycopy(alpha, 0, prevAlpha, 0, count);
+        }
+
+        void copyTo(Notes dst) {
+            if (dst.x.length < count) dst.allocate(x.length);
+            System.arraycopy(x, 0, dst.x, 0, count);
+            System.arraycopy(y, 0, dst.y, 0, count);
+            System.arraycopy(scale, 0, dst.scale, 0, count);
+            System.arraycopy(prevY, 0, dst.prevY, 0, count);
+            System.arraycopy(prevScale, 0, dst.prevScale, 0, count);
+            System.arraycopy(alpha, 0, dst.alpha, 0, count);
+            System.arraycopy(prevAlpha, 0, dst.prevAlpha, 0, count);
+            System.arraycopy(color, 0, dst.color, 0, count);
+            dst.count = count;
         }
 
-        public void update() {
-            y -= 1.5; 
-            scale += 0.02; 
-            alpha -= 0.015; 
-            if (alpha < 0) alpha = 0;
+        void update() {
+            for (int i = 0; i < count; i++) {
+                y[i] -= 1.5;
+                scale[i] += 0.02;
+                alpha[i] -= 0.015;
+                if (alpha[i] <= 0) {
+                    remove(i--);
+                }
+            }
         }
 
-        public boolean isAlive() { return alpha > 0; }
+        void remove(int i) {
+            int last = --count;
+            x[i] = x[last]; y[i] = y[last]; scale[i] = scale[last];
+            prevY[i] = prevY[last]; prevScale[i] = prevScale[last];
+            alpha[i] = alpha[last]; prevAlpha[i] = prevAlpha[last];
+            color[i] = color[last];
+        }
 
-        public void draw(Graphics2D g2) {
+        void draw(Graphics2D g2, double t) {
             AffineTransform old = g2.getTransform();
-            g2.translate(x, y);
-            g2.scale(scale, scale);
-            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-            g2.setColor(this.color);
-            g2.setStroke(new BasicStroke(3));
-            GeneralPath note = new GeneralPath();
-            note.moveTo(0, 0); note.lineTo(0, 25);
-            note.append(new Ellipse2D.Double(-6, 20, 10, 8), false); 
-            note.moveTo(0, 0); note.curveTo(0, 0, 8, 5, 8, 15); 
-            g2.draw(note);
-            g2.fill(new Ellipse2D.Double(-6, 20, 10, 8)); 
-            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+            g2.setStroke(STROKE_3);
+            for (int i = 0; i < count; i++) {
+                double s = lerp(prevScale[i], scale[i], t);
+                g2.setTransform(old);
+                g2.translate(x[i], lerp(prevY[i], y[i], t));
+                g2.scale(s, s);
+                g2.setComposite(NOTE_ALPHA[(int) Math.round(lerp(prevAlpha[i], alpha[i], t) * 255)]);
+                g2.setColor(NOTE_COLORS[color[i]]);
+                g2.draw(NOTE_OUTLINE);
+                g2.fill(NOTE_HEAD);
+            }
+            g2.setComposite(AlphaComposite.SrcOver);
             g2.setTransform(old);
         }
     }
-    private void drawCharacter(Graphics2D g2) {
+
+    private static double[] grow(double[] a, int capacity) {
+        return a == null ? new double[capacity] : java.util.Arrays.copyOf(a, capacity);
+    }
+
+    // --- INNER CLASS: MAIN CHARACTER SPRITE ATLAS ---
+    /**
+     * Both facings of the main character rasterized once for one display scale, side by side
+     * in a single image, at twice the display resolution. Drawing it is a single filtered
+     * image blit in place of the full vector replay of {@link #drawCharacter}.
+     */
+    class CharacterAtlas {
+        // Region of drawCharacter's coordinates holding the figure, centered on its mirror axis x = 175
+        static final int BOX_X = 55, BOX_Y = 0, BOX_W = 240, BOX_H = 360;
+        static final double CHARACTER_SCALE = 0.4;
+        static final int SUPERSAMPLE = 2;
+
+        final double scaleX, scaleY;
+        final BufferedImage right, left;
+
+        /** @param scaleX, scaleY device pixels per design unit of the scene */
+        CharacterAtlas(double scaleX, double scaleY) {
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            double px = scaleX * CHARACTER_SCALE * SUPERSAMPLE;
+            double py = scaleY * CHARACTER_SCALE * SUPERSAMPLE;
+            int cellW = (int) Math.ceil(BOX_W * px), cellH = (int) Math.ceil(BOX_H * py);
+
+            BufferedImage atlas = new BufferedImage(cellW * 2, cellH, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g = atlas.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            for (int facing = 0; facing < 2; facing++) {
+                AffineTransform cell = g.getTransform();
+                g.translate(facing * cellW, 0);
+                g.scale(px, py);
+                g.translate(-BOX_X, -BOX_Y);
+                if (facing == 1) {
+                    g.translate(175, 0);
+                    g.scale(-1, 1);
+                    g.translate(-175, 0);
+                }
+                g.clipRect(BOX_X, BOX_Y, BOX_W, BOX_H);
+                drawCharacter(g);
+                g.setClip(null);
+                g.setTransform(cell);
+            }
+            g.dispose();
+            right = atlas.getSubimage(0, 0, cellW, cellH);
+            left = atlas.getSubimage(cellW, 0, cellW, cellH);
+        }
+
+        boolean matches(double sx, double sy) {
+            return sx == scaleX && sy == scaleY;
+        }
+
+        /** Draws the character with its feet at (x, y) in scene units, facing right for {@code direction} 1. */
+        void draw(Graphics2D g2, double x, double y, int direction) {
+            BufferedImage frame = direction == -1 ? left : right;
+            AffineTransform at = AffineTransform.getTranslateInstance(
+                    x + (BOX_X - 175) * CHARACTER_SCALE, y + (BOX_Y - 330) * CHARACTER_SCALE);
+            at.scale(1.0 / (scaleX * SUPERSAMPLE), 1.0 / (scaleY * SUPERSAMPLE));
+            Object interpolation = g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.drawImage(frame, at, null);
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation != null
+                    ? interpolation : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        }
+    }
+
+    void drawCharacter(Graphics2D g2) {
         // ... PASTE THE HUGE SVG CODE FOR THE CHARACTER HERE ...
         // See previous response for the full content of this method.
         // It begins with "GeneralPath path121 = new GeneralPath();"
@@ -2850,11 +3445,41 @@ public class Finalproject_alvear extends JPanel implements ActionListener {
 
     }
 
+    /**
+     * Runs the animation on the Swing timer, or with {@code --loop} on a fixed-step game loop
+     * paced to the display ({@code --loop=uncapped} renders as fast as possible).
+     * {@code --festival} fills the scene with a crowd and its notes, {@code --crowd N} with N walkers.
+     */
     public static void main(String[] args) {
+        boolean loop = false, vsync = true, festival = false;
+        int crowdSize = 0;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--loop")) loop = true;
+                else if (args[i].equals("--loop=uncapped")) { loop = true; vsync = false; }
+                else if (args[i].equals("--festival")) festival = true;
+                else if (args[i].equals("--crowd")) crowdSize = Integer.parseInt(args[++i]);
+            }
+            if (crowdSize < 0) throw new IllegalArgumentException("crowd must not be negative");
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            System.err.println("Finalproject_alvear: " + ex.getMessage());
+            System.err.println("usage: Finalproject_alvear [--loop | --loop=uncapped] [--festival] [--crowd N]");
+            System.exit(2);
+            return;
+        }
+        boolean paced = vsync, singing = festival;
+        int walkers = crowdSize;
+        if (loop) {
+            SwingUtilities.invokeLater(() -> startGameLoop(paced, singing, walkers));
+            return;
+        }
         SwingUtilities.invokeLater(() -> {
             JFrame frame = new JFrame("Final Project Alvear - Animated");
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-            frame.add(new Finalproject_alvear());
+            Finalproject_alvear scene = new Finalproject_alvear();
+            scene.setFestivalMode(singing);
+            if (walkers > 0) scene.setCrowdSize(walkers);
+            frame.add(scene);
             frame.pack(); // Sizes the frame based on the panel's preferred size
             frame.setMinimumSize(new Dimension(400, 350));
             frame.setLocationRelativeTo(null);
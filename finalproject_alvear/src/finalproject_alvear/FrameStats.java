@@ -0,0 +1,252 @@
+package finalproject_alvear;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Per-frame timing and allocation statistics for an animation.
+ *
+ * Call {@link #frameStart()} at the top of every simulation tick, {@link #recordUpdate}
+ * after the update step and {@link #recordPaint} after painting. Update time, paint time,
+ * timer jitter (lateness against the timer period) and bytes allocated per frame each go
+ * into a log-bucketed histogram, which answers p50/p95/p99 without allocating. The numbers
+ * can be drawn as an overlay and are published over JMX.
+ *
+ * Ticks and paints may run on the same thread (a Swing timer) or on two (a simulation thread
+ * and the EDT). On one thread, a frame is over budget when update plus paint exceeds the
+ * period, and the allocation figure covers both. On two, each thread is measured on its own:
+ * a tick is over budget when its update alone exceeds the period, a paint when it does, and
+ * the painting thread's allocation between paints is kept in a histogram of its own.
+ *
+ * Each NetBeans project here builds on its own, so every project that uses this class has its
+ * own copy; keep the copies identical apart from the package line.
+ */
+public class FrameStats implements FrameStatsMXBean {
+
+    private final String name;
+    private final long budgetNanos;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final boolean allocSupported;
+
+    private final Histogram update = new Histogram();
+    private final Histogram paint = new Histogram();
+    private final Histogram jitter = new Histogram();
+    private final Histogram alloc = new Histogram();
+    private final Histogram paintAlloc = new Histogram();
+
+    private long frames, overBudget, paintsOverBudget;
+    private long lastTick = -1;
+    private long lastAllocated = -1, lastPaintAllocated = -1;
+    private long lastUpdateNanos;
+    private Thread tickThread;
+    private boolean paintsElsewhere; // paints arrive on a thread other than the ticking one
+
+    private static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    private static final Color OVERLAY_BACKDROP = new Color(0, 0, 0, 170);
+
+    private volatile boolean overlayVisible; // toggled on the EDT, read by whichever thread paints
+    private String[] overlayText = new String[0];
+    private long overlayRefreshed;
+
+    /**
+     * @param name   JMX name suffix and overlay title
+     * @param budget frame period of the driving timer, in milliseconds
+     */
+    public FrameStats(String name, double budget) {
+        this.name = name;
+        this.budgetNanos = (long) (budget * 1_000_000);
+        boolean supported = false;
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean t = (com.sun.management.ThreadMXBean) threads;
+            supported = t.isThreadAllocatedMemorySupported();
+            if (supported && !t.isThreadAllocatedMemoryEnabled()) t.setThreadAllocatedMemoryEnabled(true);
+        }
+        this.allocSupported = supported;
+    }
+
+    /** Registers this object with the platform MBean server as {@code <package>:type=FrameStats,name=...}. */
+    public void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                    new ObjectName(FrameStats.class.getPackageName() + ":type=FrameStats,name=" + ObjectName.quote(name)));
+        } catch (JMException ex) {
+            System.err.println("FrameStats not published over JMX: " + ex.getMessage());
+        }
+    }
+
+    /** Marks the start of a tick on the animating thread. */
+    public synchronized void frameStart() {
+        long now = System.nanoTime();
+        if (lastTick >= 0) jitter.record(Math.max(0, now - lastTick - budgetNanos));
+        lastTick = now;
+        tickThread = Thread.currentThread();
+
+        if (allocSupported) {
+            long allocated = allocatedBytes();
+            if (lastAllocated >= 0) alloc.record(allocated - lastAllocated);
+            lastAllocated = allocated;
+        }
+        frames++;
+    }
+
+    public synchronized void recordUpdate(long nanos) {
+        update.record(nanos);
+        lastUpdateNanos = nanos;
+        if (paintsElsewhere && nanos > budgetNanos) overBudget++;
+    }
+
+    public synchronized void recordPaint(long nanos) {
+        paint.record(nanos);
+        // before the first tick there is nothing to compare against; treat it as one thread
+        if (tickThread == null || tickThread == Thread.currentThread()) {
+            if (lastUpdateNanos + nanos > budgetNanos) overBudget++;
+            return;
+        }
+        paintsElsewhere = true;
+        if (nanos > budgetNanos) paintsOverBudget++;
+        if (allocSupported) {
+            long allocated = allocatedBytes();
+            if (lastPaintAllocated >= 0) paintAlloc.record(allocated - lastPaintAllocated);
+            lastPaintAllocated = allocated;
+        }
+    }
+
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public boolean isOverlayVisible() { return overlayVisible; }
+    public void setOverlayVisible(boolean v) { overlayVisible = v; }
+
+    /**
+     * Draws the statistics box at (x, y) in device space. The text is refreshed twice a second;
+     * in between, drawing it allocates nothing, so it does not show up in its own numbers.
+     */
+    public void drawOverlay(Graphics2D g, int x, int y) {
+        if (!overlayVisible) return;
+        long now = System.nanoTime();
+        if (now - overlayRefreshed > 500_000_000L) {
+            overlayText = describe();
+            overlayRefreshed = now;
+        }
+        Font oldFont = g.getFont();
+        Color oldColor = g.getColor();
+        g.setFont(OVERLAY_FONT);
+        FontMetrics fm = g.getFontMetrics();
+        int w = 0;
+        for (String line : overlayText) w = Math.max(w, fm.stringWidth(line));
+        int h = fm.getHeight() * overlayText.length;
+        g.setColor(OVERLAY_BACKDROP);
+        g.fillRect(x, y, w + 12, h + 8);
+        g.setColor(Color.WHITE);
+        for (int i = 0; i < overlayText.length; i++) {
+            g.drawString(overlayText[i], x + 6, y + 4 + fm.getAscent() + i * fm.getHeight());
+        }
+        g.setFont(oldFont);
+        g.setColor(oldColor);
+    }
+
+    private synchronized String[] describe() {
+        String head = String.format("%s  budget %.0f ms  frames %d  over %d", name, budgetNanos / 1e6, frames, overBudget);
+        String[] lines = {
+            paintsElsewhere ? head + String.format("  paints over %d", paintsOverBudget) : head,
+            String.format("update ms  p50 %6.2f  p95 %6.2f  p99 %6.2f", ms(update, 50), ms(update, 95), ms(update, 99)),
+            String.format("paint  ms  p50 %6.2f  p95 %6.2f  p99 %6.2f", ms(paint, 50), ms(paint, 95), ms(paint, 99)),
+            String.format("jitter ms  p50 %6.2f  p95 %6.2f  p99 %6.2f", ms(jitter, 50), ms(jitter, 95), ms(jitter, 99)),
+            allocSupported
+                ? String.format("alloc KB  p50 %6.1f  p95 %6.1f  p99 %6.1f", kb(alloc, 50), kb(alloc, 95), kb(alloc, 99))
+                : "alloc     (not supported by this JVM)",
+        };
+        if (!paintsElsewhere || !allocSupported) return lines;
+        lines = java.util.Arrays.copyOf(lines, lines.length + 1);
+        lines[lines.length - 1] = String.format("paint alloc KB  p50 %6.1f  p95 %6.1f  p99 %6.1f",
+                kb(paintAlloc, 50), kb(paintAlloc, 95), kb(paintAlloc, 99));
+        return lines;
+    }
+
+    private static double ms(Histogram h, double p) { return h.percentile(p) / 1e6; }
+    private static double kb(Histogram h, double p) { return h.percentile(p) / 1024.0; }
+
+    // --- FrameStatsMXBean ---
+
+    @Override public synchronized long getFrames() { return frames; }
+    @Override public synchronized long getFramesOverBudget() { return overBudget; }
+    @Override public synchronized long getPaintsOverBudget() { return paintsOverBudget; }
+    @Override public double getBudgetMillis() { return budgetNanos / 1e6; }
+    @Override public synchronized double getUpdateP50Millis() { return ms(update, 50); }
+    @Override public synchronized double getUpdateP95Millis() { return ms(update, 95); }
+    @Override public synchronized double getUpdateP99Millis() { return ms(update, 99); }
+    @Override public synchronized double getPaintP50Millis() { return ms(paint, 50); }
+    @Override public synchronized double getPaintP95Millis() { return ms(paint, 95); }
+    @Override public synchronized double getPaintP99Millis() { return ms(paint, 99); }
+    @Override public synchronized double getJitterP50Millis() { return ms(jitter, 50); }
+    @Override public synchronized double getJitterP95Millis() { return ms(jitter, 95); }
+    @Override public synchronized double getJitterP99Millis() { return ms(jitter, 99); }
+    @Override public synchronized long getAllocatedBytesP50() { return alloc.percentile(50); }
+    @Override public synchronized long getAllocatedBytesP95() { return alloc.percentile(95); }
+    @Override public synchronized long getAllocatedBytesP99() { return alloc.percentile(99); }
+    @Override public synchronized long getPaintAllocatedBytesP50() { return paintAlloc.percentile(50); }
+    @Override public synchronized long getPaintAllocatedBytesP95() { return paintAlloc.percentile(95); }
+    @Override public synchronized long getPaintAllocatedBytesP99() { return paintAlloc.percentile(99); }
+
+    @Override
+    public synchronized void reset() {
+        update.clear(); paint.clear(); jitter.clear(); alloc.clear(); paintAlloc.clear();
+        frames = 0;
+        overBudget = 0;
+        paintsOverBudget = 0;
+        lastTick = -1;
+        lastAllocated = -1;
+        lastPaintAllocated = -1;
+        overlayRefreshed = 0;
+    }
+
+    /**
+     * Histogram over non-negative longs with 16 linear sub-buckets per power of two,
+     * so any recorded value is reported within about 6%.
+     */
+    static final class Histogram {
+        private static final int SUB = 16;
+        private final long[] counts = new long[64 * SUB];
+        private long total;
+
+        void record(long v) {
+            counts[index(Math.max(0, v))]++;
+            total++;
+        }
+
+        void clear() {
+            java.util.Arrays.fill(counts, 0);
+            total = 0;
+        }
+
+        /** Upper bound of the bucket holding the {@code p}-th percentile, or 0 when empty. */
+        long percentile(double p) {
+            if (total == 0) return 0;
+            long rank = (long) Math.ceil(total * p / 100.0);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return upperBound(i);
+            }
+            return upperBound(counts.length - 1);
+        }
+
+        private static int index(long v) {
+            if (v < SUB) return (int) v;
+            int exp = 63 - Long.numberOfLeadingZeros(v);            // v in [2^exp, 2^(exp+1))
+            int sub = (int) ((v >>> (exp - 4)) & (SUB - 1));          // next 4 bits below the top bit
+            return (exp - 3) * SUB + sub;
+        }
+
+        private static long upperBound(int i) {
+            if (i < SUB) return i;
+            int exp = i / SUB + 3;
+            int sub = i % SUB;
+            return ((long) (SUB + sub + 1) << (exp - 4)) - 1;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package finalproject_alvear;
+
+/**
+ * JMX view of {@link FrameStats}. Times are in milliseconds; allocation is in bytes per frame,
+ * measured on the ticking thread and, when paints run on another thread, on that one separately.
+ */
+public interface FrameStatsMXBean {
+
+    long getFrames();
+
+    /**
+     * Frames whose update plus paint time exceeded the timer period or, when paints run on
+     * another thread, ticks whose update alone did.
+     */
+    long getFramesOverBudget();
+
+    /** Paints on a thread other than the ticking one that took longer than the period. */
+    long getPaintsOverBudget();
+
+    double getBudgetMillis();
+
+    double getUpdateP50Millis();
+    double getUpdateP95Millis();
+    double getUpdateP99Millis();
+
+    double getPaintP50Millis();
+    double getPaintP95Millis();
+    double getPaintP99Millis();
+
+    /** How late the timer fired against its period. */
+    double getJitterP50Millis();
+    double getJitterP95Millis();
+    double getJitterP99Millis();
+
+    long getAllocatedBytesP50();
+    long getAllocatedBytesP95();
+    long getAllocatedBytesP99();
+
+    /** Bytes the painting thread allocated between paints; 0 while paints share the ticking thread. */
+    long getPaintAllocatedBytesP50();
+    long getPaintAllocatedBytesP95();
+    long getPaintAllocatedBytesP99();
+
+    /** Clears all histograms and counters. */
+    void reset();
+}
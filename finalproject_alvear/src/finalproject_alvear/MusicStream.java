@@ -0,0 +1,94 @@
+package finalproject_alvear;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import javax.sound.sampled.*;
+
+/**
+ * Loops a sound file through a {@link SourceDataLine} on its own daemon thread.
+ *
+ * The file is decoded a small chunk at a time and written into the line's buffer (about
+ * 100 ms of audio), so memory use does not depend on the length of the track and the caller
+ * never waits for the file to be opened or decoded. The source is looked up on the classpath
+ * first (relative to this package, or absolute with a leading {@code /}), then as a file path.
+ */
+final class MusicStream implements Runnable {
+
+    private static final int BUFFER_MILLIS = 100;
+
+    private final String source;
+    private volatile boolean running = true;
+    private volatile SourceDataLine line;
+
+    private MusicStream(String source) {
+        this.source = source;
+    }
+
+    /** Starts looping {@code source} in the background and returns immediately. */
+    static MusicStream start(String source) {
+        MusicStream music = new MusicStream(source);
+        Thread thread = new Thread(music, "Finalproject music");
+        thread.setDaemon(true);
+        thread.start();
+        return music;
+    }
+
+    /** Stops playback; the thread exits after its current write. */
+    void stop() {
+        running = false;
+        SourceDataLine l = line;
+        if (l != null) {
+            l.stop();
+            l.flush();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            byte[] chunk = null;
+            while (running) {
+                try (AudioInputStream in = toPcm(open())) {
+                    AudioFormat format = in.getFormat();
+                    if (line == null) {
+                        int bytes = (int) (format.getFrameRate() * BUFFER_MILLIS / 1000) * format.getFrameSize();
+                        SourceDataLine l = AudioSystem.getSourceDataLine(format);
+                        l.open(format, bytes);
+                        l.start();
+                        line = l;
+                        chunk = new byte[Math.max(format.getFrameSize(), bytes / 4 / format.getFrameSize() * format.getFrameSize())];
+                    }
+                    int n;
+                    while (running && (n = in.read(chunk)) > 0) {
+                        line.write(chunk, 0, n);
+                    }
+                }
+            }
+        } catch (IOException | UnsupportedAudioFileException | LineUnavailableException | IllegalArgumentException ex) {
+            System.out.println("Error playing sound " + source + ": " + ex);
+        } finally {
+            SourceDataLine l = line;
+            if (l != null) l.close();
+        }
+    }
+
+    private AudioInputStream open() throws IOException, UnsupportedAudioFileException {
+        URL resource = MusicStream.class.getResource(source);
+        InputStream raw = resource != null ? resource.openStream() : Files.newInputStream(Paths.get(source));
+        return AudioSystem.getAudioInputStream(new BufferedInputStream(raw, 1 << 16));
+    }
+
+    /** Decodes compressed encodings (u-law, a-law, ...) to 16-bit signed PCM on the fly. */
+    private static AudioInputStream toPcm(AudioInputStream in) {
+        AudioFormat f = in.getFormat();
+        AudioFormat.Encoding enc = f.getEncoding();
+        if (enc == AudioFormat.Encoding.PCM_SIGNED || enc == AudioFormat.Encoding.PCM_UNSIGNED) return in;
+        AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, f.getSampleRate(), 16,
+                f.getChannels(), f.getChannels() * 2, f.getSampleRate(), false);
+        return AudioSystem.getAudioInputStream(pcm, in);
+    }
+}
@@ -0,0 +1,146 @@
+package finalproject_alvear;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+
+/**
+ * Headless, deterministic replay of the animated scene to a PNG sequence.
+ *
+ * Every random choice in the scene comes from one seeded {@link Random}, so a given seed
+ * always produces the same frames. The simulation runs on the calling thread; after each step
+ * its drawable state is copied into one of a few replica scenes, and a worker pool rasterizes
+ * the replica and encodes the PNG while the simulation moves on. Usage:
+ * <pre>
+ *   java -cp build/classes finalproject_alvear.SceneReplay [options] outdir
+ *     --frames N      frames to render (default 300, 9 s at the 30 ms tick)
+ *     --seed S        random seed (default 1)
+ *     --width W       frame width; the height keeps the scene's aspect (default 690)
+ *     --threads T     rasterizing/encoding threads (default: available processors)
+ *     --festival      festival mode
+ *     --crowd N       N walkers on the grass
+ * </pre>
+ * Frames are written as {@code frame_00000.png}...; a CRC of all frame pixels is printed at the
+ * end for regression checks.
+ */
+public final class SceneReplay {
+
+    private SceneReplay() {}
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        int frames = 300, width = 690, threads = Runtime.getRuntime().availableProcessors(), crowd = 0;
+        long seed = 1;
+        boolean festival = false;
+        String output = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--frames":   frames = Integer.parseInt(args[++i]); break;
+                    case "--seed":     seed = Long.parseLong(args[++i]); break;
+                    case "--width":    width = Integer.parseInt(args[++i]); break;
+                    case "--threads":  threads = Integer.parseInt(args[++i]); break;
+                    case "--festival": festival = true; break;
+                    case "--crowd":    crowd = Integer.parseInt(args[++i]); break;
+                    default:
+                        if (args[i].startsWith("--") || output != null) throw new IllegalArgumentException("unknown argument " + args[i]);
+                        output = args[i];
+                }
+            }
+            if (output == null) throw new IllegalArgumentException("missing output directory");
+            if (frames <= 0 || width <= 0 || threads <= 0) throw new IllegalArgumentException("frames, width and threads must be positive");
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            System.err.println("SceneReplay: " + ex.getMessage());
+            System.err.println("usage: SceneReplay [--frames N] [--seed S] [--width W] [--threads T] [--festival] [--crowd N] outdir");
+            System.exit(2);
+            return;
+        }
+
+        File dir = new File(output);
+        if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("cannot create " + dir);
+
+        Finalproject_alvear scene = new Finalproject_alvear(false, new Random(seed));
+        scene.setFestivalMode(festival);
+        if (crowd > 0) scene.setCrowdSize(crowd);
+
+        long t0 = System.nanoTime();
+        long[] crcs = replay(scene, frames, width, width * 356 / 345, threads, dir);
+        double seconds = (System.nanoTime() - t0) / 1e9;
+
+        CRC32 all = new CRC32();
+        for (long c : crcs) {
+            for (int s = 0; s < 64; s += 8) all.update((int) (c >>> s));
+        }
+        System.out.printf("Wrote %d frames to %s in %.1f s (%.1f frames/s), checksum %08x%n",
+                frames, dir, seconds, frames / seconds, all.getValue());
+    }
+
+    /**
+     * Steps {@code scene} {@code frames} times, writing each frame to {@code dir}, and returns
+     * the CRC-32 of each frame's pixels in frame order.
+     */
+    static long[] replay(Finalproject_alvear scene, int frames, int width, int height, int threads, File dir)
+            throws InterruptedException, IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "SceneReplay worker");
+            t.setDaemon(true);
+            return t;
+        });
+        // Replicas bound the frames in flight; each keeps its own background and sprite caches.
+        BlockingQueue<Finalproject_alvear> replicas = new ArrayBlockingQueue<>(threads * 2);
+        for (int i = 0; i < threads * 2; i++) replicas.add(new Finalproject_alvear(false));
+
+        List<Future<Long>> pending = new ArrayList<>(frames);
+        try {
+            for (int f = 0; f < frames; f++) {
+                scene.step();
+                Finalproject_alvear replica = replicas.take();
+                scene.copyRenderState(replica);
+                File file = new File(dir, String.format("frame_%05d.png", f));
+                pending.add(workers.submit(() -> {
+                    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                    Graphics2D g = image.createGraphics();
+                    try {
+                        replica.renderScene(g, width, height, 1.0);
+                    } finally {
+                        g.dispose();
+                        replicas.put(replica);
+                    }
+                    ImageIO.write(image, "png", file);
+                    return crc(image);
+                }));
+            }
+            long[] crcs = new long[frames];
+            for (int f = 0; f < frames; f++) crcs[f] = pending.get(f).get();
+            return crcs;
+        } catch (ExecutionException ex) {
+            throw new IOException("frame failed", ex.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static long crc(BufferedImage image) {
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        CRC32 crc = new CRC32();
+        byte[] row = new byte[image.getWidth() * 4];
+        for (int y = 0, i = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < row.length; x += 4, i++) {
+                int p = pixels[i];
+                row[x] = (byte) (p >>> 24); row[x + 1] = (byte) (p >>> 16);
+                row[x + 2] = (byte) (p >>> 8); row[x + 3] = (byte) p;
+            }
+            crc.update(row);
+        }
+        return crc.getValue();
+    }
+}
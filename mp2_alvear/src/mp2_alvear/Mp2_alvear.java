@@ -199,7 +199,7 @@ public class Mp2_alvear extends JFrame {
     }
     
     // Panel 4: Union
-    class UnionPanel extends JPanel {
+    static class UnionPanel extends JPanel {
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
@@ -232,7 +232,7 @@ public class Mp2_alvear extends JFrame {
     }
     
     // Panel 5: Intersection
-    class IntersectionPanel extends JPanel {
+    static class IntersectionPanel extends JPanel {
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
@@ -272,7 +272,7 @@ public class Mp2_alvear extends JFrame {
     }
     
     // Panel 6: Symmetric Difference
-    class SymmetricDifferencePanel extends JPanel {
+    static class SymmetricDifferencePanel extends JPanel {
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
@@ -305,7 +305,7 @@ public class Mp2_alvear extends JFrame {
     }
     
     // Panel 7: Relative Difference (Cross - Tree)
-    class RelativeDifferenceCrossTreePanel extends JPanel {
+    static class RelativeDifferenceCrossTreePanel extends JPanel {
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
@@ -343,7 +343,7 @@ public class Mp2_alvear extends JFrame {
     }
     
     // Panel 8: Relative Difference (Tree - Cross)
-    class RelativeDifferenceTreeCrossPanel extends JPanel {
+    static class RelativeDifferenceTreeCrossPanel extends JPanel {
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
@@ -381,7 +381,7 @@ public class Mp2_alvear extends JFrame {
     }
     
     // Panel 9: All comparisons
-    class ComparisonPanel extends JPanel {
+    static class ComparisonPanel extends JPanel {
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
@@ -502,7 +502,7 @@ public class Mp2_alvear extends JFrame {
     }
     
     // Helper method to create cross path
-    private GeneralPath createCrossPath(int startX, int startY) {
+    private static GeneralPath createCrossPath(int startX, int startY) {
         GeneralPath cross = new GeneralPath();
         
         // Create a cross with rounded corners
@@ -544,7 +544,7 @@ public class Mp2_alvear extends JFrame {
     }
     
     // Helper method to create tree path
-    private GeneralPath createTreePath(int startX, int startY) {
+    private static GeneralPath createTreePath(int startX, int startY) {
         GeneralPath tree = new GeneralPath();
         
         // Star on top